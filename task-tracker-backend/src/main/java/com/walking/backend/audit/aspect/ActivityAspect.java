@@ -20,8 +20,6 @@ import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -32,7 +30,7 @@ import org.springframework.stereotype.Component;
 public class ActivityAspect {
     private final BoardLookupService boardLookupService;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ActivityExpressionRegistry expressionRegistry;
     private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
     @AfterReturning(
@@ -48,7 +46,7 @@ public class ActivityAspect {
         context.setVariable("result", result);
         context.setVariable("userDetails", userDetails);
 
-        String description = expressionParser.parseExpression(trackActivity.description())
+        String description = expressionRegistry.getDescription(signature.getMethod(), trackActivity)
                 .getValue(context, String.class);
 
         BoardInfo boardInfo = resolveBoardInfo(result, context);
@@ -74,15 +72,13 @@ public class ActivityAspect {
             return boardLookupService.getBoardInfoBySectionId(res.sectionId());
         }
 
-        try {
-            Long boardId = expressionParser.parseExpression("#boardId").getValue(context, Long.class);
-            if (boardId != null) {
-                return boardLookupService.getBoardInfoById(boardId);
-            }
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
+        if (context.lookupVariable("boardId") instanceof Long boardId) {
+            return boardLookupService.getBoardInfoById(boardId);
         }
 
+        log.debug("Could not resolve board of tracked activity with result {}",
+                result == null ? null : result.getClass().getSimpleName());
+
         return new BoardInfo(null, "Unknown Board");
     }
 
@@ -0,0 +1,30 @@
+package com.walking.backend.audit.aspect;
+
+import com.walking.backend.audit.annotation.TrackActivity;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses each {@link TrackActivity#description()} once per method. Expressions are compiled to bytecode
+ * after their first evaluation; the argument and result types of a method never change, so the compiled
+ * form stays valid.
+ */
+@Component
+public class ActivityExpressionRegistry {
+    private final ExpressionParser expressionParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, ActivityExpressionRegistry.class.getClassLoader()));
+    private final Map<Method, Expression> descriptions = new ConcurrentHashMap<>();
+
+    public Expression getDescription(Method method, TrackActivity trackActivity) {
+        return descriptions.computeIfAbsent(method,
+                ignored -> expressionParser.parseExpression(trackActivity.description()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.walking.backend.audit.listener;
+
+import com.walking.backend.audit.service.BoardLookupService;
+import com.walking.backend.domain.event.BoardInfoChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BoardInfoCacheListener {
+    private final BoardLookupService boardLookupService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void handleBoardInfoChangedEvent(BoardInfoChangedEvent event) {
+        boardLookupService.evictBoardInfoBySections(event.boardId());
+    }
+}
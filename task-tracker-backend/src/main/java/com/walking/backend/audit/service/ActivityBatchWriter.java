@@ -0,0 +1,216 @@
+package com.walking.backend.audit.service;
+
+import com.walking.backend.domain.event.UserActivityEvent;
+import com.walking.backend.domain.event.UserActivityInternalEvent;
+import com.walking.backend.domain.model.UserActivity;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.UserActivityRepository;
+import com.walking.backend.service.KafkaProducerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers activity events and writes them in micro-batches, closed by size or by the flush interval,
+ * so a burst of actions costs one transaction, one JDBC batch and one round of Kafka sends
+ * instead of one of each per event.
+ * <p>
+ * When the buffer is full the caller writes its own event, which slows producers down rather than dropping activity.
+ */
+@Slf4j
+@Service
+public class ActivityBatchWriter implements SmartLifecycle {
+    private final UserActivityRepository userActivityRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.Activity activity;
+    private final BlockingQueue<UserActivityInternalEvent> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ActivityBatchWriter(UserActivityRepository userActivityRepository,
+                               KafkaProducerService kafkaProducerService,
+                               PlatformTransactionManager transactionManager,
+                               AppProperties appProperties) {
+        this.userActivityRepository = userActivityRepository;
+        this.kafkaProducerService = kafkaProducerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.activity = appProperties.getActivity();
+        this.queue = new LinkedBlockingQueue<>(activity.getQueueCapacity());
+    }
+
+    public void enqueue(UserActivityInternalEvent event) {
+        if (event.boardId() == null) {
+            log.warn("Skipping {} activity of user {} without a board", event.type(), event.userId());
+            return;
+        }
+
+        if (running && queue.offer(event)) return;
+
+        log.debug("Activity buffer is full or stopped, writing the event on the caller thread");
+        write(List.of(event));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("activity-writer")
+                .daemon()
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        try {
+            worker.join(activity.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<UserActivityInternalEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flush(remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                flush(nextBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits up to one flush interval for the first event, then keeps collecting until the batch is full
+     * or the interval has passed. The worker is never interrupted, so a write in progress is not cut off on shutdown.
+     */
+    private List<UserActivityInternalEvent> nextBatch() throws InterruptedException {
+        List<UserActivityInternalEvent> batch = new ArrayList<>(activity.getBatchSize());
+        UserActivityInternalEvent first = queue.poll(activity.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        if (first == null) return batch;
+
+        batch.add(first);
+
+        long deadline = System.nanoTime() + activity.getFlushInterval().toNanos();
+
+        while (batch.size() < activity.getBatchSize()) {
+            queue.drainTo(batch, activity.getBatchSize() - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= activity.getBatchSize() || remaining <= 0) break;
+
+            UserActivityInternalEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+
+            batch.add(next);
+        }
+
+        return batch;
+    }
+
+    private void flush(List<UserActivityInternalEvent> batch) {
+        for (int from = 0; from < batch.size(); from += activity.getBatchSize()) {
+            write(batch.subList(from, Math.min(batch.size(), from + activity.getBatchSize())));
+        }
+    }
+
+    /**
+     * Never throws: a failed batch insert is retried row by row so only the bad rows are lost, and Kafka is only
+     * handed the rows that were stored.
+     */
+    private void write(List<UserActivityInternalEvent> events) {
+        Map<Long, UserActivityEvent> stored = new LinkedHashMap<>();
+
+        try {
+            stored.putAll(insert(events));
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                log.error("Failed to write user activity {}", events.getFirst(), e);
+                return;
+            }
+
+            log.warn("Failed to write {} user activities in one batch, retrying one by one", events.size(), e);
+
+            for (UserActivityInternalEvent event : events) {
+                try {
+                    stored.putAll(insert(List.of(event)));
+                } catch (RuntimeException ex) {
+                    log.error("Failed to write user activity {}", event, ex);
+                }
+            }
+        }
+
+        if (stored.isEmpty()) return;
+
+        try {
+            kafkaProducerService.sendUserActivityEvents(stored);
+        } catch (RuntimeException e) {
+            log.error("Failed to send {} user activities to Kafka", stored.size(), e);
+        }
+    }
+
+    private Map<Long, UserActivityEvent> insert(List<UserActivityInternalEvent> events) {
+        List<UserActivity> activities = events.stream()
+                .map(this::toUserActivity)
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> userActivityRepository.insertAll(activities));
+
+        Map<Long, UserActivityEvent> kafkaEvents = new LinkedHashMap<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            kafkaEvents.put(activities.get(i).getId(), toUserActivityEvent(events.get(i), activities.get(i)));
+        }
+
+        return kafkaEvents;
+    }
+
+    private UserActivity toUserActivity(UserActivityInternalEvent event) {
+        return UserActivity.builder()
+                .userId(event.userId())
+                .username(event.username())
+                .boardId(event.boardId())
+                .boardName(event.boardName())
+                .activityType(event.type())
+                .description(event.description())
+                .build();
+    }
+
+    private UserActivityEvent toUserActivityEvent(UserActivityInternalEvent event, UserActivity userActivity) {
+        return UserActivityEvent.builder()
+                .userId(event.userId())
+                .username(event.username())
+                .email(event.email())
+                .boardId(event.boardId())
+                .boardName(event.boardName())
+                .type(event.type().name())
+                .description(event.description())
+                .created(userActivity.getCreated())
+                .build();
+    }
+}
@@ -1,18 +1,29 @@
 package com.walking.backend.audit.service;
 
+import com.walking.backend.cache.TwoTierCacheManager;
+import com.walking.backend.domain.event.BoardInfoChangedEvent;
 import com.walking.backend.domain.projection.BoardInfo;
+import com.walking.backend.props.AppProperties;
 import com.walking.backend.props.CacheNames;
 import com.walking.backend.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class BoardLookupService {
     private final BoardRepository boardRepository;
+    private final TwoTierCacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final AppProperties appProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(value = CacheNames.BOARD_INFO, key = "#id")
+    @Cacheable(value = CacheNames.BOARD_INFO, key = "#id", sync = true)
     public BoardInfo getBoardInfoById(Long id) {
         BoardInfo boardInfo = boardRepository.findBoardInfoById(id);
 
@@ -23,14 +34,42 @@ public class BoardLookupService {
         return boardInfo;
     }
 
-    @Cacheable(value = CacheNames.BOARD_INFO_SECTION, key = "#sectionId")
+    /**
+     * Records every cached section in a per-board index before the value is stored,
+     * so {@link #evictBoardInfoBySections} can find all of a board's entries without scanning the cache.
+     */
     public BoardInfo getBoardInfoBySectionId(Long sectionId) {
-        BoardInfo boardInfo = boardRepository.findBoardInfoBySectionId(sectionId);
+        return cacheManager.getCache(CacheNames.BOARD_INFO_SECTION).get(sectionId, () -> {
+            BoardInfo boardInfo = boardRepository.findBoardInfoBySectionId(sectionId);
 
-        if (boardInfo == null) {
-            return new BoardInfo(sectionId, "Unknown Board");
-        }
+            if (boardInfo == null) {
+                return new BoardInfo(sectionId, "Unknown Board");
+            }
 
-        return boardInfo;
+            AppProperties.Board.SectionIndex sectionIndex = appProperties.getBoard().getSectionIndex();
+            String indexKey = sectionIndex.getPrefix() + boardInfo.id();
+
+            redisTemplate.opsForSet().add(indexKey, String.valueOf(sectionId));
+            redisTemplate.expire(indexKey, sectionIndex.getTtl());
+
+            return boardInfo;
+        });
+    }
+
+    /**
+     * Defers the eviction until the transaction completes, so a concurrent lookup can't cache the old name again
+     * before the rename or delete is visible.
+     */
+    public void invalidateBoardInfoBySections(Long boardId) {
+        eventPublisher.publishEvent(new BoardInfoChangedEvent(boardId));
+    }
+
+    public void evictBoardInfoBySections(Long boardId) {
+        Set<String> sectionIds = redisTemplate.opsForSet()
+                .members(appProperties.getBoard().getSectionIndex().getPrefix() + boardId);
+
+        if (sectionIds == null || sectionIds.isEmpty()) return;
+
+        cacheManager.getCache(CacheNames.BOARD_INFO_SECTION).evictAll(sectionIds);
     }
 }
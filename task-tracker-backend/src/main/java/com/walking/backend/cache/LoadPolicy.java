@@ -0,0 +1,17 @@
+package com.walking.backend.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * How a {@link TwoTierCache} coordinates loads of a missing key and refreshes of a key close to expiry.
+ * Without a refresh executor, entries are never refreshed ahead of their TTL.
+ */
+record LoadPolicy(Duration lockTimeout,
+                  Duration lockPollInterval,
+                  double refreshAheadBeta,
+                  Duration localTtl,
+                  Executor refreshExecutor) {
+
+    static final LoadPolicy NONE = new LoadPolicy(Duration.ZERO, Duration.ZERO, 0, Duration.ZERO, null);
+}
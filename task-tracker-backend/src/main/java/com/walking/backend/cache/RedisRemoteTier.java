@@ -0,0 +1,144 @@
+package com.walking.backend.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Reads with a single {@code MGET}, deletes with a single {@code DEL} and writes with one pipelined batch
+ * of {@code SET}s, using the same keys, serializer and TTL as the {@link RedisCache} it sits next to.
+ * Load locks live next to the entry under {@code <key>:lock}.
+ */
+class RedisRemoteTier implements RemoteTier {
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final String name;
+    private final RedisCacheConfiguration configuration;
+    private final StringRedisTemplate redisTemplate;
+
+    RedisRemoteTier(RedisCache cache, StringRedisTemplate redisTemplate) {
+        this.name = cache.getName();
+        this.configuration = cache.getCacheConfiguration();
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        List<?> orderedKeys = List.copyOf(keys);
+        byte[][] redisKeys = orderedKeys.stream()
+                .map(this::toRedisKey)
+                .toArray(byte[][]::new);
+
+        List<byte[]> rawValues = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(redisKeys));
+        Map<Object, Object> values = new HashMap<>();
+
+        if (rawValues == null) return values;
+
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            byte[] rawValue = rawValues.get(i);
+
+            if (rawValue != null) {
+                values.put(orderedKeys.get(i), configuration.getValueSerializationPair().read(ByteBuffer.wrap(rawValue)));
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        if (values.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> {
+                Duration ttl = configuration.getTtlFunction().getTimeToLive(key, value);
+                Expiration expiration = ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+
+                connection.stringCommands().set(toRedisKey(key), toRedisValue(value),
+                        expiration, RedisStringCommands.SetOption.upsert());
+            });
+
+            return null;
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) return;
+
+        byte[][] redisKeys = keys.stream()
+                .map(this::toRedisKey)
+                .toArray(byte[][]::new);
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(redisKeys));
+    }
+
+    @Override
+    public Entry getWithTtl(Object key) {
+        byte[] redisKey = toRedisKey(key);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(redisKey);
+            connection.keyCommands().pTtl(redisKey);
+
+            return null;
+        }, RedisSerializer.byteArray());
+
+        if (!(results.get(0) instanceof byte[] rawValue)) return null;
+
+        Object value = configuration.getValueSerializationPair().read(ByteBuffer.wrap(rawValue));
+
+        if (value == null) return null;
+
+        Duration ttl = results.get(1) instanceof Long millis && millis >= 0 ? Duration.ofMillis(millis) : null;
+
+        return new Entry(value, ttl);
+    }
+
+    @Override
+    public boolean tryLock(Object key, String token, Duration timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(toCacheKey(key) + LOCK_SUFFIX, token, timeout));
+    }
+
+    @Override
+    public void unlock(Object key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(toCacheKey(key) + LOCK_SUFFIX), token);
+    }
+
+    @Override
+    public boolean isLocked(Object key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(toCacheKey(key) + LOCK_SUFFIX));
+    }
+
+    private String toCacheKey(Object key) {
+        String cacheKey = String.valueOf(key);
+
+        return configuration.usePrefix() ? configuration.getKeyPrefixFor(name) + cacheKey : cacheKey;
+    }
+
+    private byte[] toRedisKey(Object key) {
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(toCacheKey(key)));
+    }
+
+    private byte[] toRedisValue(Object value) {
+        return ByteUtils.getBytes(configuration.getValueSerializationPair().write(value));
+    }
+}
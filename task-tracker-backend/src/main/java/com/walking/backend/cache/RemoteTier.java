@@ -0,0 +1,96 @@
+package com.walking.backend.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Operations on the remote tier of a {@link TwoTierCache} that the plain {@link Cache} interface does not offer.
+ */
+interface RemoteTier {
+
+    /**
+     * Returns the cached values of the keys that are present; missing keys are left out.
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    void putAll(Map<?, ?> values);
+
+    void evictAll(Collection<?> keys);
+
+    /**
+     * Returns the value with its remaining time to live, which is {@code null} when unknown or unlimited.
+     */
+    Entry getWithTtl(Object key);
+
+    /**
+     * Takes the cross-instance load lock of the key, so only one instance recomputes it at a time.
+     */
+    boolean tryLock(Object key, String token, Duration timeout);
+
+    void unlock(Object key, String token);
+
+    /**
+     * Tells whether any instance still holds the load lock of the key.
+     */
+    boolean isLocked(Object key);
+
+    record Entry(Object value, Duration ttl) {
+    }
+
+    /**
+     * Falls back to one call per key and no locking, for remote tiers without native multi-key commands.
+     */
+    static RemoteTier perKey(Cache remote) {
+        return new RemoteTier() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                Map<Object, Object> values = new HashMap<>();
+
+                for (Object key : keys) {
+                    Cache.ValueWrapper wrapper = remote.get(key);
+
+                    if (wrapper != null && wrapper.get() != null) {
+                        values.put(key, wrapper.get());
+                    }
+                }
+
+                return values;
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                values.forEach(remote::put);
+            }
+
+            @Override
+            public void evictAll(Collection<?> keys) {
+                keys.forEach(remote::evict);
+            }
+
+            @Override
+            public Entry getWithTtl(Object key) {
+                Cache.ValueWrapper wrapper = remote.get(key);
+
+                return wrapper == null || wrapper.get() == null ? null : new Entry(wrapper.get(), null);
+            }
+
+            @Override
+            public boolean tryLock(Object key, String token, Duration timeout) {
+                return true;
+            }
+
+            @Override
+            public void unlock(Object key, String token) {
+            }
+
+            @Override
+            public boolean isLocked(Object key) {
+                return false;
+            }
+        };
+    }
+}
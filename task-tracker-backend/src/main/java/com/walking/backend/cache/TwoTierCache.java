@@ -0,0 +1,377 @@
+package com.walking.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Caffeine L1 in front of a shared Redis L2. Reads fill the local tier from Redis; evictions clear both tiers
+ * and are broadcast so other instances drop their local copies.
+ * <p>
+ * A broadcast can race with a concurrent fill on another instance, so the local TTL is kept short and bounds
+ * how long such a copy can stay stale.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final RemoteTier remoteTier;
+    private final LoadPolicy loadPolicy;
+    private final BiConsumer<String, String> evictionBroadcaster;
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final ConcurrentMap<String, CompletableFuture<Object>> loadsInFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+    private volatile long loadNanos;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        Cache remote,
+                        BiConsumer<String, String> evictionBroadcaster) {
+        this(name, local, remote, RemoteTier.perKey(remote), LoadPolicy.NONE, evictionBroadcaster);
+    }
+
+    TwoTierCache(String name,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                 Cache remote,
+                 RemoteTier remoteTier,
+                 LoadPolicy loadPolicy,
+                 BiConsumer<String, String> evictionBroadcaster) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteTier = remoteTier;
+        this.loadPolicy = loadPolicy;
+        this.evictionBroadcaster = evictionBroadcaster;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+
+        if (wrapper == null || wrapper.get() == null) {
+            misses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+
+        return wrapper.get();
+    }
+
+    /**
+     * Used by {@code @Cacheable(sync = true)}. Concurrent misses of a key share one load on this instance and,
+     * through a short Redis lock, across instances; an entry read from Redis close to its expiry is refreshed
+     * in the background, with a probability that grows as the expiry nears (XFetch).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loadsInFlight.putIfAbsent(localKey, load);
+
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return (T) join(inFlight);
+        }
+
+        try {
+            Object loaded = loadFromRemote(key, valueLoader);
+            load.complete(loaded);
+            return (T) loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(localKey, load);
+        }
+    }
+
+    /**
+     * Resolves many keys at once: local hits first, then one bulk read of the remote tier, then the loader
+     * for whatever is still missing. Loaded values are written back to both tiers in one batch.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> values = new HashMap<>();
+        Set<K> remoteKeys = new LinkedHashSet<>();
+
+        for (K key : keys) {
+            Object value = local.getIfPresent(toLocalKey(key));
+
+            if (value != null) {
+                values.put(key, (V) value);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        localHits.add(values.size());
+
+        if (remoteKeys.isEmpty()) return values;
+
+        Map<Object, Object> remoteValues = remoteTier.getAll(remoteKeys);
+        remoteHits.add(remoteValues.size());
+        remoteValues.forEach((key, value) -> {
+            local.put(toLocalKey(key), value);
+            values.put((K) key, (V) value);
+        });
+
+        remoteKeys.removeAll(remoteValues.keySet());
+
+        if (remoteKeys.isEmpty()) return values;
+
+        misses.add(remoteKeys.size());
+
+        Map<K, V> loaded = loader.apply(remoteKeys);
+        remoteTier.putAll(loaded);
+        loaded.forEach((key, value) -> local.put(toLocalKey(key), value));
+        values.putAll(loaded);
+
+        return values;
+    }
+
+    /**
+     * Fills happen on misses and carry the current value, so unlike evictions they are not broadcast.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+
+        if (value != null) {
+            local.put(toLocalKey(key), value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(key);
+        evictionBroadcaster.accept(name, toLocalKey(key));
+    }
+
+    /**
+     * Evicts the keys from both tiers with one remote call and broadcasts each of them.
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) return;
+
+        remoteTier.evictAll(keys);
+
+        for (Object key : keys) {
+            evictLocal(key);
+            evictionBroadcaster.accept(name, toLocalKey(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        evictionBroadcaster.accept(name, null);
+    }
+
+    public void evictLocal(Object key) {
+        local.invalidate(toLocalKey(key));
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    private Object loadFromRemote(Object key, Callable<?> valueLoader) {
+        RemoteTier.Entry entry = remoteTier.getWithTtl(key);
+
+        if (entry != null) {
+            remoteHits.increment();
+            local.put(toLocalKey(key), entry.value());
+            refreshAheadIfDue(key, entry.ttl(), valueLoader);
+
+            return entry.value();
+        }
+
+        misses.increment();
+
+        String token = UUID.randomUUID().toString();
+
+        if (remoteTier.tryLock(key, token, loadPolicy.lockTimeout())) {
+            try {
+                return loadAndStore(key, valueLoader);
+            } finally {
+                remoteTier.unlock(key, token);
+            }
+        }
+
+        return awaitRemoteLoad(key, valueLoader);
+    }
+
+    /**
+     * Another instance holds the load lock, so wait for its value to show up in Redis instead of
+     * querying the database as well. The holder releases the lock even when its loader fails, so once the lock
+     * is gone without a value there is nothing left to wait for and the value is loaded here. Also loads locally
+     * if it does not arrive before the lock would expire.
+     */
+    private Object awaitRemoteLoad(Object key, Callable<?> valueLoader) {
+        long deadline = System.nanoTime() + loadPolicy.lockTimeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(loadPolicy.lockPollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            boolean locked = remoteTier.isLocked(key);
+            ValueWrapper wrapper = remote.get(key);
+
+            if (wrapper != null && wrapper.get() != null) {
+                coalescedLoads.increment();
+                local.put(toLocalKey(key), wrapper.get());
+
+                return wrapper.get();
+            }
+
+            if (!locked) break;
+        }
+
+        return loadAndStore(key, valueLoader);
+    }
+
+    /**
+     * XFetch: refresh when {@code -gap * beta * ln(random)} reaches the remaining TTL. This instance looks at
+     * Redis again only after its local copy expires, so the gap is at least the local TTL, not just the load time.
+     */
+    private void refreshAheadIfDue(Object key, Duration ttl, Callable<?> valueLoader) {
+        Executor executor = loadPolicy.refreshExecutor();
+
+        if (executor == null || ttl == null) return;
+
+        double gap = Math.max(loadNanos, loadPolicy.localTtl().toNanos());
+        double lead = -gap * loadPolicy.refreshAheadBeta() * Math.log(ThreadLocalRandom.current().nextDouble());
+
+        if (lead < ttl.toNanos()) return;
+
+        String localKey = toLocalKey(key);
+
+        if (!refreshesInFlight.add(localKey)) return;
+
+        try {
+            executor.execute(() -> {
+                String token = UUID.randomUUID().toString();
+
+                try {
+                    if (remoteTier.tryLock(key, token, loadPolicy.lockTimeout())) {
+                        try {
+                            loadAndStore(key, valueLoader);
+                            refreshes.increment();
+                        } finally {
+                            remoteTier.unlock(key, token);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Refresh ahead of key {} in cache {} failed: {}", key, name, e.getMessage());
+                } finally {
+                    refreshesInFlight.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshesInFlight.remove(localKey);
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        loadNanos = System.nanoTime() - start;
+
+        if (value != null) {
+            remote.put(key, value);
+            local.put(toLocalKey(key), value);
+        }
+
+        return value;
+    }
+
+    private Object join(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Redis keys are the string form of the cache key as well, so both tiers and the broadcast agree on it.
+     */
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,104 @@
+package com.walking.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walking.backend.props.AppProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Wraps every cache of the Redis cache manager in a {@link TwoTierCache} and relays evictions between instances
+ * over Redis pub/sub. A message is {@code <cache name>|<key>}, with an empty key meaning the whole cache.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+    private static final String KEY_SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final AppProperties.LocalCache localCache;
+    private final LoadPolicy loadPolicy;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               AppProperties.LocalCache localCache,
+                               Executor refreshExecutor) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localCache = localCache;
+        this.loadPolicy = new LoadPolicy(
+                localCache.getLoadLockTimeout(),
+                localCache.getLoadLockPollInterval(),
+                localCache.getRefreshAheadBeta(),
+                localCache.getTtl(),
+                refreshExecutor);
+
+        remoteCacheManager.getCacheNames().forEach(this::getCache);
+    }
+
+    @Override
+    public TwoTierCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public Collection<TwoTierCache> getCaches() {
+        return List.copyOf(caches.values());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(KEY_SEPARATOR);
+
+        if (separator < 0) return;
+
+        TwoTierCache cache = caches.get(body.substring(0, separator));
+
+        if (cache == null) return;
+
+        String key = body.substring(separator + 1);
+
+        if (key.isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+
+        if (remote == null) return null;
+
+        return new TwoTierCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localCache.getMaxSize())
+                        .expireAfterWrite(localCache.getTtl())
+                        .build(),
+                remote,
+                remote instanceof RedisCache redisCache
+                        ? new RedisRemoteTier(redisCache, redisTemplate)
+                        : RemoteTier.perKey(remote),
+                loadPolicy,
+                this::broadcastEviction);
+    }
+
+    private void broadcastEviction(String name, String key) {
+        redisTemplate.convertAndSend(localCache.getChannel(), name + KEY_SEPARATOR + (key == null ? "" : key));
+    }
+}
@@ -0,0 +1,60 @@
+package com.walking.backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes hits per tier for every two-tier cache, plus the hit ratio of each tier among the reads that reached it,
+ * the loads that were coalesced into another caller's load and the entries refreshed ahead of expiry.
+ */
+@RequiredArgsConstructor
+public class TwoTierCacheMetrics implements MeterBinder {
+    private final TwoTierCacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TwoTierCache cache : cacheManager.getCaches()) {
+            counter(registry, cache, "local", "hit", TwoTierCache::getLocalHits);
+            counter(registry, cache, "remote", "hit", TwoTierCache::getRemoteHits);
+            counter(registry, cache, "remote", "miss", TwoTierCache::getMisses);
+
+            FunctionCounter.builder("cache.tier.coalesced.loads", cache, TwoTierCache::getCoalescedLoads)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+            FunctionCounter.builder("cache.tier.refreshes", cache, TwoTierCache::getRefreshes)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+
+            Gauge.builder("cache.tier.hit.ratio", cache, TwoTierCacheMetrics::localHitRatio)
+                    .tags("cache", cache.getName(), "tier", "local")
+                    .register(registry);
+            Gauge.builder("cache.tier.hit.ratio", cache, TwoTierCacheMetrics::remoteHitRatio)
+                    .tags("cache", cache.getName(), "tier", "remote")
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, TwoTierCache cache, String tier, String result,
+                         ToLongFunction<TwoTierCache> count) {
+        FunctionCounter.builder("cache.tier.gets", cache, c -> count.applyAsLong(c))
+                .tags("cache", cache.getName(), "tier", tier, "result", result)
+                .register(registry);
+    }
+
+    private static double localHitRatio(TwoTierCache cache) {
+        return ratio(cache.getLocalHits(), cache.getLocalHits() + cache.getRemoteHits() + cache.getMisses());
+    }
+
+    private static double remoteHitRatio(TwoTierCache cache) {
+        return ratio(cache.getRemoteHits(), cache.getRemoteHits() + cache.getMisses());
+    }
+
+    private static double ratio(long hits, long total) {
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
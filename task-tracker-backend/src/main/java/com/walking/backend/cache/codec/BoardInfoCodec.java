@@ -0,0 +1,38 @@
+package com.walking.backend.cache.codec;
+
+import com.walking.backend.domain.projection.BoardInfo;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Component
+public class BoardInfoCodec implements CacheValueCodec<BoardInfo> {
+
+    @Override
+    public Class<BoardInfo> type() {
+        return BoardInfo.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(BoardInfo value, DataOutput out) throws IOException {
+        CodecStreams.writeLong(out, value.id());
+        CodecStreams.writeString(out, value.name());
+    }
+
+    @Override
+    public BoardInfo read(int version, DataInput in) throws IOException {
+        return new BoardInfo(CodecStreams.readLong(in), CodecStreams.readString(in));
+    }
+}
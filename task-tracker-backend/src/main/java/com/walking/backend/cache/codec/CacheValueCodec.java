@@ -0,0 +1,22 @@
+package com.walking.backend.cache.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary format of one cached type. The type id is written into every payload and must never be reused;
+ * bump the version whenever the layout changes and keep reading the older versions until their TTL has passed.
+ */
+public interface CacheValueCodec<T> {
+
+    Class<T> type();
+
+    int typeId();
+
+    int version();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(int version, DataInput in) throws IOException;
+}
@@ -0,0 +1,97 @@
+package com.walking.backend.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes types with a registered {@link CacheValueCodec} as {@code [marker, type id, version, fields...]}
+ * and everything else through the fallback serializer.
+ * <p>
+ * A payload whose type id or version this instance does not know is read as a cache miss, so a node that has
+ * not been upgraded yet reloads the value instead of failing.
+ */
+@Slf4j
+public class CodecRedisSerializer implements RedisSerializer<Object> {
+    /**
+     * Cannot start a JSON document, so fallback payloads are told apart by their first byte.
+     */
+    private static final byte MARKER = (byte) 0xB1;
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CacheValueCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+
+    public CodecRedisSerializer(List<CacheValueCodec<?>> codecs, RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.typeId() < 0 || codec.typeId() > 0xFF || codec.version() < 1 || codec.version() > 0xFF) {
+                throw new IllegalStateException("Codec %s must use a type id between 0 and 255 and a version between 1 and 255"
+                        .formatted(codec.getClass().getSimpleName()));
+            }
+
+            if (codecsById.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalStateException("Cache codec type id %d is registered twice".formatted(codec.typeId()));
+            }
+
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) {
+        if (value == null) return null;
+
+        CacheValueCodec<Object> codec = (CacheValueCodec<Object>) codecsByType.get(value.getClass());
+
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MARKER);
+            out.writeByte(codec.typeId());
+            out.writeByte(codec.version());
+            codec.write(value, out);
+
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+
+        if (bytes[0] != MARKER) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.readByte();
+            int typeId = in.readUnsignedByte();
+            int version = in.readUnsignedByte();
+            CacheValueCodec<?> codec = codecsById.get(typeId);
+
+            if (codec == null || version > codec.version()) {
+                log.debug("Skipping cached value with unknown type {} or version {}", typeId, version);
+                return null;
+            }
+
+            return codec.read(version, in);
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode cached value", e);
+        }
+    }
+}
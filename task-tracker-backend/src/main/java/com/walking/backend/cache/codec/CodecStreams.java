@@ -0,0 +1,49 @@
+package com.walking.backend.cache.codec;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Nullable field helpers shared by the codecs. Strings are length-prefixed UTF-8, with {@code -1} for null.
+ */
+@UtilityClass
+public class CodecStreams {
+
+    public void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    public Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    public void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+package com.walking.backend.cache.codec;
+
+import com.walking.backend.domain.dto.user.UserProfileResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Component
+public class UserProfileResponseCodec implements CacheValueCodec<UserProfileResponse> {
+
+    @Override
+    public Class<UserProfileResponse> type() {
+        return UserProfileResponse.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(UserProfileResponse value, DataOutput out) throws IOException {
+        CodecStreams.writeLong(out, value.id());
+        CodecStreams.writeString(out, value.username());
+        CodecStreams.writeString(out, value.email());
+        CodecStreams.writeString(out, value.displayName());
+        CodecStreams.writeString(out, value.avatarUrl());
+        CodecStreams.writeString(out, value.bio());
+    }
+
+    @Override
+    public UserProfileResponse read(int version, DataInput in) throws IOException {
+        return new UserProfileResponse(
+                CodecStreams.readLong(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in));
+    }
+}
@@ -0,0 +1,46 @@
+package com.walking.backend.cache.codec;
+
+import com.walking.backend.domain.dto.user.UserPublicProfileResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Component
+public class UserPublicProfileResponseCodec implements CacheValueCodec<UserPublicProfileResponse> {
+
+    @Override
+    public Class<UserPublicProfileResponse> type() {
+        return UserPublicProfileResponse.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 4;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(UserPublicProfileResponse value, DataOutput out) throws IOException {
+        CodecStreams.writeLong(out, value.id());
+        CodecStreams.writeString(out, value.username());
+        CodecStreams.writeString(out, value.displayName());
+        CodecStreams.writeString(out, value.avatarUrl());
+        CodecStreams.writeString(out, value.bio());
+    }
+
+    @Override
+    public UserPublicProfileResponse read(int version, DataInput in) throws IOException {
+        return new UserPublicProfileResponse(
+                CodecStreams.readLong(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in));
+    }
+}
@@ -0,0 +1,44 @@
+package com.walking.backend.cache.codec;
+
+import com.walking.backend.domain.dto.user.UserShortResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Component
+public class UserShortResponseCodec implements CacheValueCodec<UserShortResponse> {
+
+    @Override
+    public Class<UserShortResponse> type() {
+        return UserShortResponse.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(UserShortResponse value, DataOutput out) throws IOException {
+        CodecStreams.writeLong(out, value.id());
+        CodecStreams.writeString(out, value.username());
+        CodecStreams.writeString(out, value.displayName());
+        CodecStreams.writeString(out, value.avatarUrl());
+    }
+
+    @Override
+    public UserShortResponse read(int version, DataInput in) throws IOException {
+        return new UserShortResponse(
+                CodecStreams.readLong(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in),
+                CodecStreams.readString(in));
+    }
+}
@@ -1,33 +1,53 @@
 package com.walking.backend.config;
 
+import com.walking.backend.cache.TwoTierCacheManager;
+import com.walking.backend.cache.TwoTierCacheMetrics;
+import com.walking.backend.cache.codec.CacheValueCodec;
+import com.walking.backend.cache.codec.CodecRedisSerializer;
+import com.walking.backend.props.AppProperties;
 import com.walking.backend.props.CacheNames;
-import org.springframework.boot.cache.autoconfigure.RedisCacheManagerBuilderCustomizer;
+import com.walking.backend.security.authorization.BoardRoleCache;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+    /**
+     * Binary values are not readable by instances that only know JSON, so the encoding change gets its own
+     * key space. Bump it whenever a change is not readable by the version currently deployed.
+     */
+    private static final String KEY_SPACE = "v2:";
 
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
-        RedisSerializer<Object> serializer = GenericJacksonJsonRedisSerializer.builder()
+    public RedisCacheConfiguration cacheConfiguration(List<CacheValueCodec<?>> codecs) {
+        RedisSerializer<Object> jsonSerializer = GenericJacksonJsonRedisSerializer.builder()
                 .enableDefaultTyping(BasicPolymorphicTypeValidator.builder()
                         .allowIfBaseType(Object.class)
                         .allowIfSubType("com.walking.backend")
                         .build())
                 .build();
+        RedisSerializer<Object> serializer = new CodecRedisSerializer(codecs, jsonSerializer);
 
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
+                .computePrefixWith(cacheName -> KEY_SPACE + cacheName + "::")
                 .disableCachingNullValues()
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
@@ -35,9 +55,13 @@ public class CacheConfig {
     }
 
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(
-            RedisCacheConfiguration cacheConfiguration) {
-        return builder -> builder
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                           RedisCacheConfiguration cacheConfiguration,
+                                           StringRedisTemplate redisTemplate,
+                                           Executor cacheRefreshExecutor,
+                                           AppProperties appProperties) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(cacheConfiguration)
                 .withCacheConfiguration(
                         CacheNames.USER_PROFILE,
                         cacheConfiguration.entryTtl(Duration.ofHours(1))
@@ -57,6 +81,35 @@ public class CacheConfig {
                 .withCacheConfiguration(
                         CacheNames.BOARD_INFO_SECTION,
                         cacheConfiguration.entryTtl(Duration.ofMinutes(30))
-                );
+                )
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, appProperties.getLocalCache(),
+                cacheRefreshExecutor);
+    }
+
+    @Bean
+    public TwoTierCacheMetrics twoTierCacheMetrics(TwoTierCacheManager cacheManager) {
+        return new TwoTierCacheMetrics(cacheManager);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            BoardRoleCache boardRoleCache,
+            ResourceHierarchyCache resourceHierarchyCache,
+            TwoTierCacheManager cacheManager,
+            AppProperties appProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(boardRoleCache,
+                new ChannelTopic(appProperties.getSecurity().getRoleCache().getChannel()));
+        container.addMessageListener(resourceHierarchyCache,
+                new ChannelTopic(appProperties.getSecurity().getHierarchyCache().getChannel()));
+        container.addMessageListener(cacheManager,
+                new ChannelTopic(appProperties.getLocalCache().getChannel()));
+
+        return container;
     }
 }
@@ -1,13 +1,17 @@
 package com.walking.backend.config;
 
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.security.authentication.BoundedPasswordEncoder;
 import com.walking.backend.security.authentication.CustomUserDetailsService;
 import com.walking.backend.security.filter.JwtFilter;
+import com.walking.backend.security.filter.RateLimitFilter;
 import com.walking.backend.security.handler.CustomAccessDeniedHandler;
 import com.walking.backend.security.handler.CustomAuthenticationEntryPoint;
 import com.walking.backend.security.handler.CustomLogoutHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -28,6 +32,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomLogoutHandler logoutHandler;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
@@ -47,6 +52,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtFilter.class)
                 .logout(logout -> logout
                         .logoutUrl("/auth/sign-out")
                         .addLogoutHandler(logoutHandler)
@@ -58,8 +64,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor passwordHashingExecutor, AppProperties appProperties) {
+        AppProperties.Security.PasswordHashing passwordHashing = appProperties.getSecurity().getPasswordHashing();
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(passwordHashing.getStrength()),
+                passwordHashingExecutor.getThreadPoolExecutor(),
+                passwordHashing.getTimeout());
     }
 
     @Bean
@@ -0,0 +1,14 @@
+package com.walking.backend.domain.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Signed-in device session")
+public record SessionResponse(
+        @Schema(description = "Session identifier, stable across token refreshes", example = "3f0c1b9e-6a0e-4c43-9a1f-2c1d1e9f7b10")
+        String id,
+
+        @Schema(description = "Moment the session expires unless it is refreshed")
+        LocalDateTime expiresAt) {
+}
@@ -0,0 +1,8 @@
+package com.walking.backend.domain.dto.board;
+
+import com.walking.backend.domain.dto.section.SectionSnapshotResponse;
+
+import java.util.List;
+
+public record BoardSnapshotResponse(Long id, String name, List<SectionSnapshotResponse> sections) {
+}
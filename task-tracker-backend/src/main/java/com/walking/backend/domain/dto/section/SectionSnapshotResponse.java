@@ -0,0 +1,8 @@
+package com.walking.backend.domain.dto.section;
+
+import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+
+import java.util.List;
+
+public record SectionSnapshotResponse(Long id, String name, List<TaskPreviewResponse> tasks) {
+}
@@ -0,0 +1,19 @@
+package com.walking.backend.domain.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCreateTasksRequest(
+        @NotNull(message = "Section id cannot be null")
+        @Positive(message = "Section id must be positive")
+        Long sectionId,
+
+        @NotEmpty(message = "Tasks cannot be empty")
+        @Size(max = 5000, message = "Cannot create more than 5000 tasks at once")
+        List<@NotNull @Valid BulkTaskItem> tasks) {
+}
@@ -0,0 +1,9 @@
+package com.walking.backend.domain.dto.task;
+
+import java.util.List;
+
+public record BulkCreateTasksResponse(
+        int created,
+        List<Long> taskIds
+) {
+}
@@ -0,0 +1,29 @@
+package com.walking.backend.domain.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Schema(description = "A single task of a bulk creation request")
+public record BulkTaskItem(
+        @Schema(description = "Title of the task", example = "Buy groceries", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Title cannot be empty")
+        @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
+        String title,
+
+        @Size(max = 5000, message = "Description cannot exceed 5000 characters")
+        String description,
+
+        @FutureOrPresent(message = "Due date must be in the present or future")
+        LocalDateTime dueDate,
+
+        @Size(max = 20, message = "Task cannot have more than 20 assignees")
+        Set<@Positive(message = "Assignee id must be positive") Long> assigneeIds,
+
+        Set<@Positive(message = "Label id must be positive") Long> labelIds) {
+}
@@ -0,0 +1,11 @@
+package com.walking.backend.domain.dto.task;
+
+public enum BulkTaskOperation {
+    COMPLETE,
+    REOPEN,
+    ADD_LABEL,
+    REMOVE_LABEL,
+    ASSIGN,
+    UNASSIGN,
+    DELETE
+}
@@ -0,0 +1,27 @@
+package com.walking.backend.domain.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+@Schema(description = "Operation applied to every selected task")
+public record BulkTaskOperationRequest(
+        @NotEmpty(message = "Task ids cannot be empty")
+        @Size(max = 500, message = "Cannot change more than 500 tasks at once")
+        Set<@NotNull @Positive Long> taskIds,
+
+        @NotNull(message = "Operation cannot be null")
+        BulkTaskOperation operation,
+
+        @Schema(description = "Label to add or remove, required for ADD_LABEL and REMOVE_LABEL")
+        @Positive(message = "Label id must be positive")
+        Long labelId,
+
+        @Schema(description = "Users to assign or unassign, required for ASSIGN and UNASSIGN")
+        @Size(max = 20, message = "Cannot assign more than 20 users at once")
+        Set<@NotNull @Positive Long> userIds) {
+}
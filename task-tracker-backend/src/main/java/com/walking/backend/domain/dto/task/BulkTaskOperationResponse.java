@@ -0,0 +1,7 @@
+package com.walking.backend.domain.dto.task;
+
+public record BulkTaskOperationResponse(
+        BulkTaskOperation operation,
+        int affected
+) {
+}
@@ -0,0 +1,24 @@
+package com.walking.backend.domain.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MoveTasksRequest(
+        @NotEmpty(message = "Task ids cannot be empty")
+        @Size(max = 100, message = "Cannot move more than 100 tasks at once")
+        List<@NotNull @Positive Long> taskIds,
+
+        @NotNull(message = "Section id cannot be null")
+        @Positive(message = "Section id must be positive")
+        Long sectionId,
+
+        @Positive(message = "Previous task id must be positive")
+        Long prevTaskId,
+
+        @Positive(message = "Next task id must be positive")
+        Long nextTaskId) {
+}
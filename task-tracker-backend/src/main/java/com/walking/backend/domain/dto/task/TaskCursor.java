@@ -0,0 +1,4 @@
+package com.walking.backend.domain.dto.task;
+
+public record TaskCursor<T>(T sortKey, Long id) {
+}
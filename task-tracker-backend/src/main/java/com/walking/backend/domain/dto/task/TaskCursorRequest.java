@@ -0,0 +1,12 @@
+package com.walking.backend.domain.dto.task;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record TaskCursorRequest(
+        String cursor,
+
+        @Min(value = 1, message = "Size must be at least 1")
+        @Max(value = 100, message = "Size must be at most 100")
+        Integer size) {
+}
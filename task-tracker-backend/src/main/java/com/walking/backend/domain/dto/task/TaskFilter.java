@@ -12,5 +12,6 @@ public record TaskFilter(
         LocalDateTime dueDateFrom,
         LocalDateTime dueDateTo,
         LocalDateTime createdFrom,
-        LocalDateTime createdTo) {
+        LocalDateTime createdTo,
+        String query) {
 }
@@ -0,0 +1,9 @@
+package com.walking.backend.domain.dto.task;
+
+public record TaskSearchResponse(
+        TaskPreviewResponse task,
+        Double rank,
+        String titleHighlight,
+        String descriptionHighlight
+) {
+}
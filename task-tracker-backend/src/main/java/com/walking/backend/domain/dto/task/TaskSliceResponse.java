@@ -0,0 +1,11 @@
+package com.walking.backend.domain.dto.task;
+
+import java.util.List;
+
+public record TaskSliceResponse(
+        List<TaskPreviewResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
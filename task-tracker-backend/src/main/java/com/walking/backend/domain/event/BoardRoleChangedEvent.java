@@ -0,0 +1,6 @@
+package com.walking.backend.domain.event;
+
+import java.util.Collection;
+
+public record BoardRoleChangedEvent(Collection<Long> userIds) {
+}
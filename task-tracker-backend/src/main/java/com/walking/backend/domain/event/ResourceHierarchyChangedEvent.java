@@ -0,0 +1,8 @@
+package com.walking.backend.domain.event;
+
+import com.walking.backend.domain.model.ResourceType;
+
+import java.util.Collection;
+
+public record ResourceHierarchyChangedEvent(ResourceType type, Collection<Long> ids) {
+}
@@ -0,0 +1,4 @@
+package com.walking.backend.domain.event;
+
+public record SectionRebalanceEvent(Long sectionId) {
+}
@@ -0,0 +1,7 @@
+package com.walking.backend.domain.exception;
+
+public class AssigneeLimitExceededException extends RuntimeException {
+    public AssigneeLimitExceededException(String message) {
+        super(message);
+    }
+}
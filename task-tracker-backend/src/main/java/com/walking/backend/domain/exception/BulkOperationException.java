@@ -0,0 +1,7 @@
+package com.walking.backend.domain.exception;
+
+public class BulkOperationException extends RuntimeException {
+    public BulkOperationException(String message) {
+        super(message);
+    }
+}
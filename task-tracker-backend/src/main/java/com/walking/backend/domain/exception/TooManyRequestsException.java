@@ -0,0 +1,7 @@
+package com.walking.backend.domain.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.walking.backend.domain.model;
+
+public enum ResourceType {
+    TASK,
+    SECTION,
+    LABEL
+}
@@ -23,7 +23,8 @@ import java.util.Set;
 @EntityListeners(AuditingEntityListener.class)
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -37,7 +38,8 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
-    private Double position;
+    @Column(nullable = false)
+    private String position;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "section_id")
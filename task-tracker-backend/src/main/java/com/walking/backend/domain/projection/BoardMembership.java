@@ -0,0 +1,6 @@
+package com.walking.backend.domain.projection;
+
+import com.walking.backend.domain.model.BoardRole;
+
+public record BoardMembership(Long boardId, BoardRole role) {
+}
@@ -0,0 +1,9 @@
+package com.walking.backend.domain.projection;
+
+public record TaskLabelProjection(
+        Long taskId,
+        Long labelId,
+        String name,
+        String colour,
+        Long boardId) {
+}
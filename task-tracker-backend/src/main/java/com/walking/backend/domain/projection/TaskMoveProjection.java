@@ -0,0 +1,8 @@
+package com.walking.backend.domain.projection;
+
+public record TaskMoveProjection(
+        Long id,
+        String title,
+        Long sectionId,
+        Long boardId) {
+}
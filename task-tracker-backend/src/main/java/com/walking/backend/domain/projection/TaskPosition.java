@@ -0,0 +1,4 @@
+package com.walking.backend.domain.projection;
+
+public record TaskPosition(Long id, String position) {
+}
@@ -0,0 +1,13 @@
+package com.walking.backend.domain.projection;
+
+import java.time.LocalDateTime;
+
+public record TaskPreviewProjection(
+        Long id,
+        String title,
+        Boolean isCompleted,
+        LocalDateTime dueDate,
+        Long sectionId,
+        LocalDateTime created,
+        LocalDateTime updated) {
+}
@@ -0,0 +1,4 @@
+package com.walking.backend.domain.projection;
+
+public record TaskSearchHit(Long id, Double rank, String titleHighlight, String descriptionHighlight) {
+}
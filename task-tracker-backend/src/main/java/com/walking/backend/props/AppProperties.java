@@ -2,38 +2,125 @@ package com.walking.backend.props;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Data
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
+    private Board board = new Board();
     private Label label = new Label();
     private Task task = new Task();
     private Kafka kafka = new Kafka();
     private Minio minio = new Minio();
     private Security security = new Security();
+    private LocalCache localCache = new LocalCache();
+    private Activity activity = new Activity();
+
+    @Data
+    public static class Activity {
+        private int batchSize;
+        private Duration flushInterval;
+        private int queueCapacity;
+        private Duration shutdownTimeout;
+    }
+
+    @Data
+    public static class LocalCache {
+        private long maxSize;
+        private Duration ttl;
+        private String channel;
+        private Duration loadLockTimeout;
+        private Duration loadLockPollInterval;
+        private double refreshAheadBeta;
+    }
 
     @Data
     public static class Security {
         private Jwt jwt = new Jwt();
+        private PasswordHashing passwordHashing = new PasswordHashing();
+        private NearCache roleCache = new NearCache();
+        private NearCache hierarchyCache = new NearCache();
+        private RateLimit rateLimit = new RateLimit();
+
+        @Data
+        public static class RateLimit {
+            private boolean enabled;
+            private String keyPrefix;
+            private Duration slowCallThreshold;
+            private Duration fallbackPeriod;
+            private long localMaxBuckets;
+            private List<Rule> rules = new ArrayList<>();
+
+            @Data
+            public static class Rule {
+                private String name;
+                private HttpMethod method;
+                private String path;
+                private Scope scope;
+                private int capacity;
+                private Duration refillPeriod;
+            }
+
+            public enum Scope {
+                USER, CLIENT_IP
+            }
+        }
+
+        @Data
+        public static class NearCache {
+            private long maxSize;
+            private Duration ttl;
+            private String channel;
+        }
+
+        @Data
+        public static class PasswordHashing {
+            private int strength;
+            private int poolSize;
+            private int queueCapacity;
+            private Duration timeout;
+        }
 
         @Data
         public static class Jwt {
             private String secret;
+            private String keyId;
+            private Map<String, String> previousKeys = new HashMap<>();
             private long accessTokenExpiration;
             private long refreshTokenExpiration;
             private String cookieName;
+            private boolean revocationCheck;
+            private int maxSessions;
             private Redis redis = new Redis();
 
             @Data
             public static class Redis {
                 private String refreshTokenPrefix;
-                private String userTokenPrefix;
+                private String sessionsPrefix;
+                private String sessionExpiryPrefix;
+                private String revokedTokenPrefix;
             }
         }
     }
 
+    @Data
+    public static class Board {
+        private SectionIndex sectionIndex = new SectionIndex();
+
+        @Data
+        public static class SectionIndex {
+            private String prefix;
+            private Duration ttl;
+        }
+    }
+
     @Data
     public static class Label {
         private int maxPerBoard;
@@ -42,7 +129,17 @@ public class AppProperties {
 
     @Data
     public static class Task {
-        private double positionStep;
+        private int bulkChunkSize;
+        private int maxAssignees;
+        private Rebalance rebalance = new Rebalance();
+
+        @Data
+        public static class Rebalance {
+            private int maxPositionLength;
+            private int batchSize;
+            private Duration lockTimeout;
+            private String lockPrefix;
+        }
     }
 
     @Data
@@ -0,0 +1,21 @@
+package com.walking.backend.rebalance.listener;
+
+import com.walking.backend.domain.event.SectionRebalanceEvent;
+import com.walking.backend.rebalance.service.SectionRebalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SectionRebalanceListener {
+    private final SectionRebalanceService sectionRebalanceService;
+
+    @Async("rebalanceExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSectionRebalanceEvent(SectionRebalanceEvent event) {
+        sectionRebalanceService.rebalance(event.sectionId());
+    }
+}
@@ -0,0 +1,125 @@
+package com.walking.backend.rebalance.service;
+
+import com.walking.backend.domain.event.SectionRebalanceEvent;
+import com.walking.backend.domain.projection.TaskPosition;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.util.TaskRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rewrites the position keys of a section once they grow too long, one locked batch per transaction,
+ * so a drag-and-drop never waits for the whole section to be renumbered.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SectionRebalanceService {
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppProperties appProperties;
+
+    public void requestRebalanceIfNeeded(Long sectionId, String position) {
+        if (position.length() > appProperties.getTask().getRebalance().getMaxPositionLength()) {
+            eventPublisher.publishEvent(new SectionRebalanceEvent(sectionId));
+        }
+    }
+
+    public void rebalance(Long sectionId) {
+        AppProperties.Task.Rebalance rebalance = appProperties.getTask().getRebalance();
+        String lockKey = rebalance.getLockPrefix() + sectionId;
+        String lockToken = UUID.randomUUID().toString();
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, rebalance.getLockTimeout()))) {
+            log.debug("Section {} is already being rebalanced", sectionId);
+            return;
+        }
+
+        try {
+            if (!taskRepository.existsBySectionIdAndPositionLongerThan(sectionId, rebalance.getMaxPositionLength())) {
+                return;
+            }
+
+            int batches = 0;
+            String lastPosition = null;
+
+            do {
+                String afterPosition = lastPosition;
+                lastPosition = transactionTemplate.execute(status ->
+                        rebalanceBatch(sectionId, afterPosition, rebalance.getBatchSize()));
+                batches++;
+            } while (lastPosition != null);
+
+            log.info("Rebalanced section {} in {} batches", sectionId, batches);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
+        }
+    }
+
+    /**
+     * Gives tasks that share one key distinct keys between that key and the next one, in id order, so a drop
+     * between them has room again. Runs in the caller's transaction, which must hold the section lock.
+     */
+    public Map<Long, String> spreadTiedPositions(Long sectionId, String position) {
+        List<TaskPosition> tied = taskRepository.lockPositionsEqual(sectionId, position);
+        List<TaskPosition> above = taskRepository.lockPositionsAfter(sectionId, position, 1);
+
+        List<String> positions = TaskRank.spread(position, above.isEmpty() ? null : above.getFirst().position(), tied.size());
+        Map<Long, String> positionsById = new LinkedHashMap<>();
+
+        for (int i = 0; i < tied.size(); i++) {
+            positionsById.put(tied.get(i).id(), positions.get(i));
+        }
+
+        taskRepository.updatePositions(positionsById);
+        log.info("Spread {} tasks sharing position {} in section {}", tied.size(), position, sectionId);
+
+        return positionsById;
+    }
+
+    /**
+     * Spreads the next batch evenly between the last rewritten key and the first key after the batch,
+     * which keeps the section ordered between batches. Returns the last written key, or {@code null} when done.
+     */
+    private String rebalanceBatch(Long sectionId, String afterPosition, int batchSize) {
+        taskRepository.lockSection(sectionId);
+        List<TaskPosition> locked = taskRepository.lockPositionsAfter(sectionId, afterPosition, batchSize + 1);
+
+        if (locked.isEmpty()) return null;
+
+        boolean hasMore = locked.size() > batchSize;
+        List<TaskPosition> batch = hasMore ? locked.subList(0, batchSize) : locked;
+        String upperPosition = hasMore ? locked.get(batchSize).position() : null;
+
+        List<String> positions = TaskRank.spread(afterPosition, upperPosition, batch.size());
+        Map<Long, String> positionsById = new LinkedHashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            positionsById.put(batch.get(i).id(), positions.get(i));
+        }
+
+        taskRepository.updatePositions(positionsById);
+
+        return hasMore ? positions.getLast() : null;
+    }
+}
@@ -3,12 +3,14 @@ package com.walking.backend.repository;
 import com.walking.backend.domain.model.BoardMember;
 import com.walking.backend.domain.model.BoardMemberId;
 import com.walking.backend.domain.model.BoardRole;
+import com.walking.backend.domain.projection.BoardMembership;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,11 +24,19 @@ public interface BoardMemberRepository extends
     @EntityGraph(attributePaths = {"user"})
     Page<BoardMember> findAll(Specification<BoardMember> spec, Pageable pageable);
 
-    boolean existsByIdBoardIdAndIdUserIdAndRoleIn(Long boardId, Long userId, List<BoardRole> roles);
-
     boolean existsByIdBoardIdAndIdUserId(Long boardId, Long userId);
 
     Optional<BoardMember> findByIdBoardIdAndIdUserId(Long boardId, Long userId);
 
     long countByIdBoardIdAndRole(Long boardId, BoardRole role);
+
+    @Query("""
+            select new com.walking.backend.domain.projection.BoardMembership(m.id.boardId, m.role)
+            from BoardMember m
+                where m.id.userId = :userId
+            """)
+    List<BoardMembership> findMembershipsByUserId(Long userId);
+
+    @Query("select m.id.userId from BoardMember m where m.id.boardId = :boardId")
+    List<Long> findUserIdsByBoardId(Long boardId);
 }
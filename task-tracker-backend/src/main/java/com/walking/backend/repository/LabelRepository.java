@@ -1,19 +1,26 @@
 package com.walking.backend.repository;
 
-import com.walking.backend.domain.model.BoardRole;
 import com.walking.backend.domain.model.Label;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
 
     List<Label> findAllByBoardId(Long boardId);
 
-    List<Label> findAllByBoardIdAndNameContainingIgnoreCase(Long boardId, String name);
+    @Query("""
+            select l from Label l
+                where l.board.id = :boardId and lower(l.name) like :namePattern escape '\\'
+            """)
+    List<Label> findAllByBoardIdAndNameLike(Long boardId, String namePattern);
+
+    List<Label> findAllByBoardIdAndIdIn(Long boardId, Collection<Long> labelIds);
 
     boolean existsByNameAndBoardId(String name, Long boardId);
 
@@ -21,11 +28,6 @@ public interface LabelRepository extends JpaRepository<Label, Long> {
 
     long countByBoardId(Long boardId);
 
-    @Query("""
-            select (count (l) > 0) from Label l
-                        join l.board b
-                        join b.members m
-                                    where l.id = :labelId and m.user.id = :userId and m.role in :roles
-            """)
-    boolean existsByLabelIdAndUserIdAndRoles(Long labelId, Long userId, List<BoardRole> roles);
+    @Query("select l.board.id from Label l where l.id = :labelId")
+    Optional<Long> findBoardIdByLabelId(Long labelId);
 }
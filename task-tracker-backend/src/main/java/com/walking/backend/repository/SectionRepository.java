@@ -1,6 +1,6 @@
 package com.walking.backend.repository;
 
-import com.walking.backend.domain.model.BoardRole;
+import com.walking.backend.domain.dto.section.SectionResponse;
 import com.walking.backend.domain.model.Section;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,29 +9,30 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SectionRepository extends JpaRepository<Section, Long> {
 
     Page<Section> findAllByBoardId(Long boardId, Pageable pageable);
 
+    @Query("""
+            select new com.walking.backend.domain.dto.section.SectionResponse(
+                        s.id,
+                        s.name,
+                        s.board.id,
+                        s.created,
+                        s.updated)
+            from Section s
+                where s.board.id = :boardId
+                order by s.id
+            """)
+    List<SectionResponse> findSectionResponsesByBoardId(Long boardId);
+
     boolean existsSectionByNameAndBoardId(String name, Long boardId);
 
     boolean existsByNameAndBoardIdAndIdNot(String name, Long boardId, Long sectionId);
 
-    @Query("""
-            select (count (s) > 0) from Section s
-                        join s.board b
-                        join b.members m
-                                    where s.id = :sectionId and m.user.id = :userId and m.role in :roles
-            """)
-    boolean existsBySectionIdAndUserIdAndRoles(Long sectionId, Long userId, List<BoardRole> roles);
-
-    @Query("""
-            select (count (s) > 0) from Section s
-                        join s.board b
-                        join b.members m
-                                    where s.id = :sectionId and m.user.id = :userId
-            """)
-    boolean existsBySectionIdAndUserId(Long sectionId, Long userId);
+    @Query("select s.board.id from Section s where s.id = :sectionId")
+    Optional<Long> findBoardIdBySectionId(Long sectionId);
 }
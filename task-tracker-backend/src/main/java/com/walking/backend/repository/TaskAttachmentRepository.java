@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,9 @@ public interface TaskAttachmentRepository extends JpaRepository<TaskAttachment,
 
     long countByTaskId(Long taskId);
 
+    @Query("select ta.filePath from TaskAttachment ta where ta.task.id in :taskIds")
+    List<String> findAllFilePathByTaskIdIn(Collection<Long> taskIds);
+
     @Query("select ta.filePath from TaskAttachment ta where ta.task.section.id = :sectionId")
     List<String> findAllFilePathBySectionId(Long sectionId);
 
@@ -0,0 +1,10 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.model.Task;
+
+import java.util.List;
+
+public interface TaskBatchRepository {
+
+    void persistInChunks(List<Task> tasks, int chunkSize);
+}
@@ -0,0 +1,28 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.model.Task;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Persists new tasks chunk by chunk, flushing each chunk as JDBC batches and clearing the persistence context
+ * afterwards, so a large import neither holds every entity in memory nor dirty-checks it on every flush.
+ */
+@RequiredArgsConstructor
+public class TaskBatchRepositoryImpl implements TaskBatchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public void persistInChunks(List<Task> tasks, int chunkSize) {
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+
+            if ((i + 1) % chunkSize == 0 || i == tasks.size() - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+}
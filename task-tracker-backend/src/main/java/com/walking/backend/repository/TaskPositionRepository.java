@@ -0,0 +1,37 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.projection.TaskPosition;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TaskPositionRepository {
+
+    /**
+     * Serializes position writers of a section until the transaction ends. {@code FOR NO KEY UPDATE} leaves
+     * the foreign key checks of other task writes unblocked.
+     */
+    void lockSection(Long sectionId);
+
+    /**
+     * Returns the task directly after {@code after} in (position, id) order, or the first task of the section when
+     * {@code after} is null. Tasks in {@code excludedIds} are skipped.
+     */
+    Optional<TaskPosition> findNextPosition(Long sectionId, TaskPosition after, Collection<Long> excludedIds);
+
+    /**
+     * Returns the task directly before {@code before} in (position, id) order. Tasks in {@code excludedIds} are skipped.
+     */
+    Optional<TaskPosition> findPreviousPosition(Long sectionId, TaskPosition before, Collection<Long> excludedIds);
+
+    List<TaskPosition> lockPositionsEqual(Long sectionId, String position);
+
+    List<TaskPosition> lockPositionsAfter(Long sectionId, String afterPosition, int limit);
+
+    void updatePositions(Map<Long, String> positionsById);
+
+    void moveToSection(Long sectionId, Map<Long, String> positionsById, LocalDateTime updated);
+}
@@ -0,0 +1,161 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.projection.TaskPosition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class TaskPositionRepositoryImpl implements TaskPositionRepository {
+    private static final RowMapper<TaskPosition> TASK_POSITION_MAPPER =
+            (rs, rowNum) -> new TaskPosition(rs.getLong("id"), rs.getString("position"));
+
+    private static final String LOCK_SECTION = """
+            SELECT id FROM section
+            WHERE id = ?
+            FOR NO KEY UPDATE
+            """;
+
+    private static final String FIND_FIRST_POSITION = """
+            SELECT id, position FROM task
+            WHERE section_id = ? AND id NOT IN (%s)
+            ORDER BY position, id
+            LIMIT 1
+            """;
+
+    private static final String FIND_NEXT_POSITION = """
+            SELECT id, position FROM task
+            WHERE section_id = ? AND (position, id) > (CAST(? AS TEXT), ?) AND id NOT IN (%s)
+            ORDER BY position, id
+            LIMIT 1
+            """;
+
+    private static final String FIND_PREVIOUS_POSITION = """
+            SELECT id, position FROM task
+            WHERE section_id = ? AND (position, id) < (CAST(? AS TEXT), ?) AND id NOT IN (%s)
+            ORDER BY position DESC, id DESC
+            LIMIT 1
+            """;
+
+    private static final String LOCK_EQUAL_POSITIONS = """
+            SELECT id, position FROM task
+            WHERE section_id = ? AND position = ?
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String LOCK_FIRST_POSITIONS = """
+            SELECT id, position FROM task
+            WHERE section_id = ?
+            ORDER BY position, id
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String LOCK_POSITIONS_AFTER = """
+            SELECT id, position FROM task
+            WHERE section_id = ? AND position > ?
+            ORDER BY position, id
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_POSITIONS = """
+            UPDATE task t
+            SET position = v.position
+            FROM (VALUES %s) AS v(id, position)
+            WHERE t.id = v.id
+            """;
+
+    private static final String MOVE_TO_SECTION = """
+            UPDATE task t
+            SET position = v.position, section_id = ?, updated = ?
+            FROM (VALUES %s) AS v(id, position)
+            WHERE t.id = v.id
+            """;
+
+    private static final String VALUES_ROW = "(CAST(? AS BIGINT), CAST(? AS TEXT))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockSection(Long sectionId) {
+        jdbcTemplate.queryForList(LOCK_SECTION, Long.class, sectionId);
+    }
+
+    @Override
+    public Optional<TaskPosition> findNextPosition(Long sectionId, TaskPosition after, Collection<Long> excludedIds) {
+        if (after == null) {
+            return findNeighbour(FIND_FIRST_POSITION, excludedIds, sectionId);
+        }
+        return findNeighbour(FIND_NEXT_POSITION, excludedIds, sectionId, after.position(), after.id());
+    }
+
+    @Override
+    public Optional<TaskPosition> findPreviousPosition(Long sectionId, TaskPosition before, Collection<Long> excludedIds) {
+        return findNeighbour(FIND_PREVIOUS_POSITION, excludedIds, sectionId, before.position(), before.id());
+    }
+
+    @Override
+    public List<TaskPosition> lockPositionsEqual(Long sectionId, String position) {
+        return jdbcTemplate.query(LOCK_EQUAL_POSITIONS, TASK_POSITION_MAPPER, sectionId, position);
+    }
+
+    @Override
+    public List<TaskPosition> lockPositionsAfter(Long sectionId, String afterPosition, int limit) {
+        return afterPosition == null
+                ? jdbcTemplate.query(LOCK_FIRST_POSITIONS, TASK_POSITION_MAPPER, sectionId, limit)
+                : jdbcTemplate.query(LOCK_POSITIONS_AFTER, TASK_POSITION_MAPPER, sectionId, afterPosition, limit);
+    }
+
+    @Override
+    public void updatePositions(Map<Long, String> positionsById) {
+        if (positionsById.isEmpty()) return;
+
+        List<Object> args = new ArrayList<>(positionsById.size() * 2);
+        addValues(args, positionsById);
+
+        jdbcTemplate.update(UPDATE_POSITIONS.formatted(valuesRows(positionsById.size())), args.toArray());
+    }
+
+    @Override
+    public void moveToSection(Long sectionId, Map<Long, String> positionsById, LocalDateTime updated) {
+        if (positionsById.isEmpty()) return;
+
+        List<Object> args = new ArrayList<>(positionsById.size() * 2 + 2);
+        args.add(sectionId);
+        args.add(updated);
+        addValues(args, positionsById);
+
+        jdbcTemplate.update(MOVE_TO_SECTION.formatted(valuesRows(positionsById.size())), args.toArray());
+    }
+
+    private Optional<TaskPosition> findNeighbour(String sql, Collection<Long> excludedIds, Object... args) {
+        List<Object> queryArgs = new ArrayList<>(List.of(args));
+        queryArgs.addAll(excludedIds);
+        String placeholders = String.join(", ", Collections.nCopies(excludedIds.size(), "?"));
+
+        return jdbcTemplate.query(sql.formatted(placeholders), TASK_POSITION_MAPPER, queryArgs.toArray())
+                .stream()
+                .findFirst();
+    }
+
+    private String valuesRows(int count) {
+        return String.join(", ", Collections.nCopies(count, VALUES_ROW));
+    }
+
+    private void addValues(List<Object> args, Map<Long, String> positionsById) {
+        positionsById.forEach((id, position) -> {
+            args.add(id);
+            args.add(position);
+        });
+    }
+}
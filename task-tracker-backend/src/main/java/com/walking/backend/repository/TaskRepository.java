@@ -1,18 +1,21 @@
 package com.walking.backend.repository;
 
-import com.walking.backend.domain.model.BoardRole;
 import com.walking.backend.domain.model.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import com.walking.backend.domain.projection.ResourceBoardId;
+import com.walking.backend.domain.projection.TaskLabelProjection;
+import com.walking.backend.domain.projection.TaskMoveProjection;
+import com.walking.backend.domain.projection.TaskPreviewProjection;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskPositionRepository, TaskBatchRepository, TaskSearchRepository {
 
     @Query("""
             select t from Task t
@@ -21,34 +24,73 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
             """)
     Optional<Task> findByIdWithLabels(Long taskId);
 
-    @Override
-    @EntityGraph(attributePaths = {"labels"})
-    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+    @Query("""
+            select distinct t from Task t
+                        left join fetch t.labels
+                                    where t.id in :taskIds
+            """)
+    List<Task> findAllWithLabelsByIdIn(Collection<Long> taskIds);
 
     @Query("select max(t.position) from Task t where t.section.id = :sectionId")
-    Double findMaxPositionBySectionId(Long sectionId);
+    String findMaxPositionBySectionId(Long sectionId);
+
+    @Query("select count(t) > 0 from Task t where t.section.id = :sectionId and length(t.position) > :maxLength")
+    boolean existsBySectionIdAndPositionLongerThan(Long sectionId, int maxLength);
 
     Optional<Task> findByIdAndSectionId(Long taskId, Long sectionId);
 
-    List<Task> findAllBySectionIdOrderByPositionAsc(Long sectionId);
+    @Query("""
+            select new com.walking.backend.domain.projection.TaskPreviewProjection(
+                        t.id,
+                        t.title,
+                        t.isCompleted,
+                        t.dueDate,
+                        s.id,
+                        t.created,
+                        t.updated)
+            from Task t
+                    join t.section s
+                where s.board.id = :boardId
+                order by t.position, t.id
+            """)
+    List<TaskPreviewProjection> findTaskPreviewsByBoardId(Long boardId);
 
     @Query("""
-            select (count (t) > 0) from Task t
-                        join t.section s
-                        join s.board b
-                        join b.members m
-                                    where t.id = :taskId and m.user.id = :userId
+            select new com.walking.backend.domain.projection.TaskLabelProjection(
+                        t.id,
+                        l.id,
+                        l.name,
+                        l.colour,
+                        l.board.id)
+            from Task t
+                    join t.section s
+                    join t.labels l
+                where s.board.id = :boardId
+                order by l.id
             """)
-    boolean existsByTaskIdAndUserId(Long taskId, Long userId);
+    List<TaskLabelProjection> findTaskLabelsByBoardId(Long boardId);
+
+
+    @Query("select t.id from Task t where t.section.id = :sectionId")
+    List<Long> findIdsBySectionId(Long sectionId);
+
+    @Query("select t.section.board.id from Task t where t.id = :taskId")
+    Optional<Long> findBoardIdByTaskId(Long taskId);
 
     @Query("""
-            select (count (t) > 0) from Task t
-                        join t.section s
-                        join s.board b
-                        join b.members m
-                                    where t.id = :taskId and m.user.id = :userId and m.role in :roles
+            select new com.walking.backend.domain.projection.ResourceBoardId(t.id, t.section.board.id)
+            from Task t
+                where t.id in :taskIds
             """)
-    boolean existsByTaskIdAndUserIdAndRoles(Long taskId, Long userId, List<BoardRole> roles);
+    List<ResourceBoardId> findBoardIdsByTaskIdIn(Collection<Long> taskIds);
+
+    @Query("""
+            select new com.walking.backend.domain.projection.TaskMoveProjection(t.id, t.title, s.id, s.board.id)
+            from Task t
+                    join t.section s
+                where t.id in :taskIds
+            """)
+    List<TaskMoveProjection> findMoveProjectionsByIdIn(Collection<Long> taskIds);
 
     @Query(value = """
             SELECT COUNT(*) > 0
@@ -69,6 +111,73 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
             """, nativeQuery = true)
     void removeAssigneeFromBoardTasks(Long boardId, Long userId);
 
+    @Modifying
+    @Query("""
+            update Task t set t.isCompleted = :completed, t.updated = :updated
+                where t.id in :taskIds and t.isCompleted <> :completed
+            """)
+    int updateCompletedByIdIn(Collection<Long> taskIds, boolean completed, LocalDateTime updated);
+
+    @Query(value = """
+            SELECT COUNT(*)
+            FROM (SELECT tl.task_id
+                  FROM tasks_labels tl
+                      WHERE tl.task_id IN :taskIds
+                  GROUP BY tl.task_id
+                  HAVING COUNT(*) >= :maxLabels AND bool_and(tl.label_id <> :labelId)) full_tasks
+            """, nativeQuery = true)
+    long countTasksAtLabelLimit(Collection<Long> taskIds, Long labelId, int maxLabels);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tasks_labels (task_id, label_id)
+            SELECT t.id, :labelId
+            FROM task t
+                WHERE t.id IN :taskIds
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addLabelToTasks(Collection<Long> taskIds, Long labelId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM tasks_labels
+                WHERE label_id = :labelId AND task_id IN :taskIds
+            """, nativeQuery = true)
+    int removeLabelFromTasks(Collection<Long> taskIds, Long labelId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_assignee (task_id, user_id)
+            SELECT t.id, u.id
+            FROM task t
+                     CROSS JOIN users u
+                WHERE t.id IN :taskIds AND u.id IN :userIds
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addAssigneesToTasks(Collection<Long> taskIds, Collection<Long> userIds);
+
+    @Query(value = """
+            SELECT COUNT(*)
+            FROM task t
+                WHERE t.id IN :taskIds
+                    AND (SELECT COUNT(*)
+                         FROM (SELECT ta.user_id FROM task_assignee ta WHERE ta.task_id = t.id
+                               UNION
+                               SELECT u.id FROM users u WHERE u.id IN :userIds) assignees) > :maxAssignees
+            """, nativeQuery = true)
+    long countTasksOverAssigneeLimit(Collection<Long> taskIds, Collection<Long> userIds, int maxAssignees);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM task_assignee
+                WHERE task_id IN :taskIds AND user_id IN :userIds
+            """, nativeQuery = true)
+    int removeAssigneesFromTasks(Collection<Long> taskIds, Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM task WHERE id IN :taskIds", nativeQuery = true)
+    int deleteAllByIdIn(Collection<Long> taskIds);
+
     @Query("""
             select t from Task t
                     left join fetch t.attachments
@@ -0,0 +1,13 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.dto.task.TaskFilter;
+import com.walking.backend.domain.projection.TaskSearchHit;
+
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    long countFullTextMatches(Long boardId, String tsQuery, TaskFilter taskFilter);
+
+    List<TaskSearchHit> findFullTextMatches(Long boardId, String tsQuery, TaskFilter taskFilter, int limit, long offset);
+}
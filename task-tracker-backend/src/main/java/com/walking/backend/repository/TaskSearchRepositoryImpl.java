@@ -0,0 +1,130 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.dto.task.TaskFilter;
+import com.walking.backend.domain.projection.TaskSearchHit;
+import com.walking.backend.util.LikePatterns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ranked full-text search. The WHERE clause is assembled from the same {@link TaskFilter} fields
+ * as the specification search, so adding a query never widens an otherwise filtered result.
+ */
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+    private static final RowMapper<TaskSearchHit> TASK_SEARCH_HIT_MAPPER = (rs, rowNum) -> new TaskSearchHit(
+            rs.getLong("id"),
+            rs.getDouble("rank"),
+            rs.getString("title_highlight"),
+            rs.getString("description_highlight"));
+
+    private static final String MATCHES = """
+            FROM task t
+                    JOIN section s ON s.id = t.section_id
+                WHERE s.board_id = ?
+                    AND t.search_vector @@ to_tsquery('simple', ?)
+            """;
+
+    private static final String COUNT_MATCHES = "SELECT COUNT(*) %s";
+
+    private static final String FIND_MATCHES = """
+            SELECT ranked.id,
+                   ranked.rank,
+                   ts_headline('simple', ranked.title, to_tsquery('simple', ?),
+                               'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS title_highlight,
+                   ts_headline('simple', coalesce(ranked.description, ''), to_tsquery('simple', ?),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS description_highlight
+            FROM (
+                SELECT t.id,
+                       t.title,
+                       t.description,
+                       CAST(ts_rank(t.search_vector, to_tsquery('simple', ?)) AS DOUBLE PRECISION) AS rank
+                %s
+                    ORDER BY rank DESC, t.id
+                    LIMIT ? OFFSET ?
+            ) ranked
+                ORDER BY ranked.rank DESC, ranked.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long countFullTextMatches(Long boardId, String tsQuery, TaskFilter taskFilter) {
+        List<Object> args = new ArrayList<>();
+        String where = buildWhere(boardId, tsQuery, taskFilter, args);
+
+        Long count = jdbcTemplate.queryForObject(COUNT_MATCHES.formatted(where), Long.class, args.toArray());
+
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public List<TaskSearchHit> findFullTextMatches(Long boardId, String tsQuery, TaskFilter taskFilter, int limit, long offset) {
+        List<Object> args = new ArrayList<>(List.of(tsQuery, tsQuery, tsQuery));
+        String where = buildWhere(boardId, tsQuery, taskFilter, args);
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(FIND_MATCHES.formatted(where), TASK_SEARCH_HIT_MAPPER, args.toArray());
+    }
+
+    private String buildWhere(Long boardId, String tsQuery, TaskFilter taskFilter, List<Object> args) {
+        StringBuilder where = new StringBuilder(MATCHES);
+        args.add(boardId);
+        args.add(tsQuery);
+
+        if (taskFilter.sectionId() != null) {
+            where.append(" AND t.section_id = ?");
+            args.add(taskFilter.sectionId());
+        }
+
+        if (taskFilter.title() != null && !taskFilter.title().isBlank()) {
+            where.append(" AND lower(t.title) LIKE ? ESCAPE '").append(LikePatterns.ESCAPE).append("'");
+            args.add(LikePatterns.contains(taskFilter.title()));
+        }
+
+        if (taskFilter.completed() != null) {
+            where.append(" AND t.is_completed = ?");
+            args.add(taskFilter.completed());
+        }
+
+        if (taskFilter.labelIds() != null && !taskFilter.labelIds().isEmpty()) {
+            where.append(" AND EXISTS (SELECT 1 FROM tasks_labels tl WHERE tl.task_id = t.id AND tl.label_id IN (%s))"
+                    .formatted(placeholders(taskFilter.labelIds().size())));
+            args.addAll(taskFilter.labelIds());
+        }
+
+        if (taskFilter.assigneeIds() != null && !taskFilter.assigneeIds().isEmpty()) {
+            where.append(" AND EXISTS (SELECT 1 FROM task_assignee ta WHERE ta.task_id = t.id AND ta.user_id IN (%s))"
+                    .formatted(placeholders(taskFilter.assigneeIds().size())));
+            args.addAll(taskFilter.assigneeIds());
+        }
+
+        appendRange(where, args, "t.due_date", taskFilter.dueDateFrom(), taskFilter.dueDateTo());
+        appendRange(where, args, "t.created", taskFilter.createdFrom(), taskFilter.createdTo());
+
+        return where.toString();
+    }
+
+    private void appendRange(StringBuilder where, List<Object> args, String column, LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            where.append(" AND ").append(column).append(" >= ?");
+            args.add(from);
+        }
+
+        if (to != null) {
+            where.append(" AND ").append(column).append(" <= ?");
+            args.add(to);
+        }
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
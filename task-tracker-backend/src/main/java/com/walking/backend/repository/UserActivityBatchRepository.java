@@ -0,0 +1,13 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.model.UserActivity;
+
+import java.util.List;
+
+public interface UserActivityBatchRepository {
+
+    /**
+     * Inserts the activities in one JDBC batch and assigns their ids and creation time.
+     */
+    void insertAll(List<UserActivity> activities);
+}
@@ -0,0 +1,51 @@
+package com.walking.backend.repository;
+
+import com.walking.backend.domain.model.UserActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reserves the ids from the sequence up front, so the whole batch is one JDBC batch instead of
+ * an {@code IDENTITY} insert and round trip per row, and the ids are still known for the Kafka keys.
+ */
+@RequiredArgsConstructor
+public class UserActivityBatchRepositoryImpl implements UserActivityBatchRepository {
+    private static final String NEXT_IDS = """
+            SELECT nextval('user_activity_id_seq') FROM generate_series(1, ?)
+            """;
+
+    private static final String INSERT_ACTIVITY = """
+            INSERT INTO user_activity (id, user_id, username, board_id, board_name, activity_type, description, created)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<UserActivity> activities) {
+        if (activities.isEmpty()) return;
+
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS, Long.class, activities.size());
+        LocalDateTime created = LocalDateTime.now();
+
+        for (int i = 0; i < activities.size(); i++) {
+            activities.get(i).setId(ids.get(i));
+            activities.get(i).setCreated(created);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ACTIVITY, activities, activities.size(), (ps, activity) -> {
+            ps.setLong(1, activity.getId());
+            ps.setLong(2, activity.getUserId());
+            ps.setString(3, activity.getUsername());
+            ps.setLong(4, activity.getBoardId());
+            ps.setString(5, activity.getBoardName());
+            ps.setString(6, activity.getActivityType().name());
+            ps.setString(7, activity.getDescription());
+            ps.setTimestamp(8, Timestamp.valueOf(activity.getCreated()));
+        });
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long>, UserActivityBatchRepository {
 
     @Query("""
             select new com.walking.backend.domain.dto.activity.BoardActivityResponse(
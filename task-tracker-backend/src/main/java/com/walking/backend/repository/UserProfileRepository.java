@@ -4,6 +4,7 @@ import com.walking.backend.domain.dto.user.UserProfileResponse;
 import com.walking.backend.domain.dto.user.UserPublicProfileResponse;
 import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.model.UserProfile;
+import com.walking.backend.domain.projection.TaskAssigneeId;
 import com.walking.backend.domain.projection.TaskAssigneeProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -40,6 +41,14 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
             """)
     UserShortResponse findUserShortById(Long userId);
 
+    @Query("""
+            select new com.walking.backend.domain.projection.TaskAssigneeId(t.id, u.id)
+            from Task t
+                    join t.assignees u
+                where t.id in :taskIds
+            """)
+    List<TaskAssigneeId> findAssigneeIdsByTaskIds(Set<Long> taskIds);
+
     @Query("""
             select new com.walking.backend.domain.projection.TaskAssigneeProjection(
                         t.id,
@@ -48,11 +57,12 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
                         p.displayName,
                         p.avatarUrl)
             from Task t
+                    join t.section s
                     join t.assignees u
                     join UserProfile p on p.user.id = u.id
-                where t.id in :taskIds
+                where s.board.id = :boardId
             """)
-    List<TaskAssigneeProjection> findAssigneeProjectionByTaskIds(Set<Long> taskIds);
+    List<TaskAssigneeProjection> findAssigneeProjectionByBoardId(Long boardId);
 
     @Query("""
             select new com.walking.backend.domain.dto.user.UserProfileResponse(
@@ -5,6 +5,7 @@ import com.walking.backend.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -21,14 +22,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
                         p.avatarUrl)
             from User u
                     join UserProfile p on u.id = p.userId
-                where (lower(u.username) like lower(concat(:query, '%'))
-                            or  lower(u.email) like lower(concat(:query, '%')))
+                where (lower(u.username) like :queryPattern escape '\\'
+                            or  lower(u.email) like :queryPattern escape '\\')
                             and u.id not in (
                                         select m.user.id
                                         from BoardMember m
                                             where m.board.id = :boardId)
             """)
-    Page<UserSearchResponse> searchUsersByQueryAndExcludeBoardMembers(String query, Long boardId, Pageable pageable);
+    Page<UserSearchResponse> searchUsersByQueryAndExcludeBoardMembers(String queryPattern, Long boardId, Pageable pageable);
 
     Optional<User> findByUsername(String username);
 
@@ -42,4 +43,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
                 where s.id = :sectionId and u.id in :assigneeIds
             """)
     Set<User> findAllBySectionIdAndAssigneeIds(Long sectionId, Set<Long> assigneeIds);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePasswordByUsername(String username, String password);
 }
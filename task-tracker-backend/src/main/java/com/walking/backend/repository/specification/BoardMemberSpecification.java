@@ -1,6 +1,7 @@
 package com.walking.backend.repository.specification;
 
 import com.walking.backend.domain.model.*;
+import com.walking.backend.util.LikePatterns;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -18,7 +19,9 @@ public class BoardMemberSpecification {
         return (root, query, cb) -> {
             if (username == null || username.isBlank()) return null;
             return cb.like(
-                    cb.lower(root.get(BoardMember_.user).get(User_.username)), "%" + username.toLowerCase() + "%");
+                    cb.lower(root.get(BoardMember_.user).get(User_.username)),
+                    LikePatterns.contains(username),
+                    LikePatterns.ESCAPE);
         };
     }
 
@@ -26,7 +29,9 @@ public class BoardMemberSpecification {
         return (root, query, cb) -> {
             if (email == null || email.isBlank()) return null;
             return cb.like(
-                    cb.lower(root.get(BoardMember_.user).get(User_.email)), "%" + email.toLowerCase() + "%");
+                    cb.lower(root.get(BoardMember_.user).get(User_.email)),
+                    LikePatterns.contains(email),
+                    LikePatterns.ESCAPE);
         };
     }
 
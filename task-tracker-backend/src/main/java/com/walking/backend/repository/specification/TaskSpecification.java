@@ -1,6 +1,8 @@
 package com.walking.backend.repository.specification;
 
+import com.walking.backend.domain.dto.task.TaskCursor;
 import com.walking.backend.domain.model.*;
+import com.walking.backend.util.LikePatterns;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -25,7 +27,7 @@ public class TaskSpecification {
     public static Specification<Task> hasTitle(String title) {
         return (root, query, cb) -> {
             if (title == null || title.isBlank()) return null;
-            return cb.like(cb.lower(root.get(Task_.title)), "%" + title.toLowerCase() + "%");
+            return cb.like(cb.lower(root.get(Task_.title)), LikePatterns.contains(title), LikePatterns.ESCAPE);
         };
     }
 
@@ -73,4 +75,30 @@ public class TaskSpecification {
             return cb.between(root.get(Task_.created), from, to);
         };
     }
+
+    public static Specification<Task> isAfterPosition(TaskCursor<String> cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            return cb.or(
+                    cb.greaterThan(root.get(Task_.position), cursor.sortKey()),
+                    cb.and(
+                            cb.equal(root.get(Task_.position), cursor.sortKey()),
+                            cb.greaterThan(root.get(Task_.id), cursor.id())
+                    )
+            );
+        };
+    }
+
+    public static Specification<Task> isCreatedBefore(TaskCursor<LocalDateTime> cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            return cb.or(
+                    cb.lessThan(root.get(Task_.created), cursor.sortKey()),
+                    cb.and(
+                            cb.equal(root.get(Task_.created), cursor.sortKey()),
+                            cb.lessThan(root.get(Task_.id), cursor.id())
+                    )
+            );
+        };
+    }
 }
@@ -4,13 +4,16 @@ import com.walking.backend.repository.UserRepository;
 import com.walking.backend.security.principal.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
@@ -23,4 +26,17 @@ public class CustomUserDetailsService implements UserDetailsService {
                         user.getPassword()))
                 .orElseThrow(() -> new UsernameNotFoundException("User %s not found".formatted(username)));
     }
+
+    /**
+     * Stores the password re-encoded after a successful sign-in, when the stored hash uses a lower cost
+     * than the configured one.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        CustomUserDetails userDetails = (CustomUserDetails) user;
+
+        return new CustomUserDetails(userDetails.id(), userDetails.username(), userDetails.email(), newPassword);
+    }
 }
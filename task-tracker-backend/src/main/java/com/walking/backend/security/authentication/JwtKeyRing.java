@@ -0,0 +1,68 @@
+package com.walking.backend.security.authentication;
+
+import com.walking.backend.props.AppProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Signing keys decoded once at startup, indexed by {@code kid}.
+ * <p>
+ * New tokens are signed with the current key, while tokens signed with a previous key keep verifying until
+ * that key is dropped from the configuration. Tokens without a {@code kid} are verified with the current key.
+ */
+@Component
+public class JwtKeyRing {
+    @Getter
+    private final String signingKeyId;
+    @Getter
+    private final SecretKey signingKey;
+    @Getter
+    private final JwtParser parser;
+    private final Map<String, SecretKey> verificationKeys = new HashMap<>();
+
+    public JwtKeyRing(AppProperties appProperties) {
+        AppProperties.Security.Jwt jwt = appProperties.getSecurity().getJwt();
+
+        jwt.getPreviousKeys().forEach((keyId, secret) -> verificationKeys.put(keyId, decode(secret)));
+
+        this.signingKeyId = jwt.getKeyId();
+        this.signingKey = decode(jwt.getSecret());
+        this.verificationKeys.put(signingKeyId, signingKey);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return findVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    private SecretKey findVerificationKey(String keyId) {
+        if (keyId == null) return signingKey;
+
+        SecretKey key = verificationKeys.get(keyId);
+
+        if (key == null) {
+            throw new InvalidKeyException("Unknown signing key %s".formatted(keyId));
+        }
+
+        return key;
+    }
+
+    private SecretKey decode(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secret));
+    }
+}
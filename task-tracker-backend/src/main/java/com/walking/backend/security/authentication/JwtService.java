@@ -2,16 +2,14 @@ package com.walking.backend.security.authentication;
 
 import com.walking.backend.domain.exception.AuthException;
 import com.walking.backend.props.AppProperties;
+import com.walking.backend.security.principal.CustomUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -21,29 +19,81 @@ import java.util.function.Function;
 @Service
 @RequiredArgsConstructor
 public class JwtService {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String SESSION_ID_CLAIM = "sid";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final AppProperties appProperties;
+    private final JwtKeyRing jwtKeyRing;
 
-    public String generateAccessToken(String username) {
-        return generateToken(username, appProperties.getSecurity().getJwt().getAccessTokenExpiration());
+    public String generateAccessToken(CustomUserDetails userDetails) {
+        return generateToken(userDetails, ACCESS_TOKEN_TYPE, null,
+                appProperties.getSecurity().getJwt().getAccessTokenExpiration());
     }
 
-    public String generateRefreshToken(String username) {
-        return generateToken(username, appProperties.getSecurity().getJwt().getRefreshTokenExpiration());
+    public String generateRefreshToken(CustomUserDetails userDetails, String sessionId) {
+        return generateToken(userDetails, REFRESH_TOKEN_TYPE, sessionId,
+                appProperties.getSecurity().getJwt().getRefreshTokenExpiration());
     }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Builds the principal from the verified token claims, so an authenticated request needs no user lookup.
+     */
+    public CustomUserDetails extractUserDetails(String token) {
+        return toUserDetails(extractAllClaims(token));
+    }
+
+    public CustomUserDetails toUserDetails(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+
+        if (userId == null || claims.getSubject() == null) {
+            throw new AuthException("Invalid or malformed token");
+        }
+
+        return new CustomUserDetails(userId, claims.getSubject(), claims.get(EMAIL_CLAIM, String.class), null);
+    }
+
+    /**
+     * Rejects anything but an access token, so a long-lived refresh token can't be sent as a bearer token.
+     */
+    public void requireAccessToken(Claims claims) {
+        if (!ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)) || claims.containsKey(SESSION_ID_CLAIM)) {
+            throw new AuthException("Invalid or malformed token");
+        }
+    }
+
+    public String extractSessionId(Claims claims) {
+        String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+
+        if (sessionId == null) {
+            throw new AuthException("Invalid or malformed token");
+        }
+
+        return sessionId;
+    }
+
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    public Instant extractExpiration(String token) {
+        return extractClaim(token, claims -> claims.getExpiration().toInstant());
+    }
+
     private <T> T extractClaim(String token, Function<Claims, T> resolver) {
         return resolver.apply(extractAllClaims(token));
     }
 
-    private Claims extractAllClaims(String token) {
+    public Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignKey())
-                    .build()
+            return jwtKeyRing.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -53,20 +103,21 @@ public class JwtService {
         }
     }
 
-    private String generateToken(String username, long expiryTime) {
+    private String generateToken(CustomUserDetails userDetails, String tokenType, String sessionId, long expiryTime) {
         Instant now = Instant.now();
         Instant expiration = now.plus(expiryTime, TimeUnit.MINUTES.toChronoUnit());
 
         return Jwts.builder()
-                .subject(username)
+                .header().keyId(jwtKeyRing.getSigningKeyId()).and()
+                .subject(userDetails.username())
+                .claim(USER_ID_CLAIM, userDetails.id())
+                .claim(EMAIL_CLAIM, userDetails.email())
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .id(UUID.randomUUID().toString())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSignKey())
+                .signWith(jwtKeyRing.getSigningKey())
                 .compact();
     }
-
-    private SecretKey getSignKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(appProperties.getSecurity().getJwt().getSecret()));
-    }
 }
@@ -1,43 +1,149 @@
 package com.walking.backend.security.authentication;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.exception.AuthException;
 import com.walking.backend.props.AppProperties;
+import com.walking.backend.security.principal.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.server.Cookie;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Keeps every signed-in device of a user as a session in Redis: {@code token:<refresh token>} holds the user id,
+ * the {@code sessions:<user id>} hash maps session ids to their current refresh token, and the
+ * {@code session-expiry:<user id>} sorted set orders them by expiry. Every change runs as a single Lua script,
+ * so sign-in and refresh cost one round trip and revoking a session never scans keys.
+ * <p>
+ * The scripts build refresh token keys from the hash values, which assumes a single Redis node rather than a cluster.
+ */
 @Service
 @RequiredArgsConstructor
 public class TokenService {
+    private static final String PURGE_EXPIRED = """
+            local expired = redis.call('zrangebyscore', KEYS[3], '-inf', ARGV[5])
+            if #expired > 0 then
+                redis.call('hdel', KEYS[2], unpack(expired))
+                redis.call('zremrangebyscore', KEYS[3], '-inf', ARGV[5])
+            end
+            """;
+
+    /**
+     * KEYS: token key, sessions key, expiry key. ARGV: user id, session id, token, ttl in seconds, now,
+     * expires at, max sessions, token key prefix.
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(PURGE_EXPIRED + """
+            redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            redis.call('hset', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('zadd', KEYS[3], ARGV[6], ARGV[2])
+            local overflow = redis.call('zcard', KEYS[3]) - tonumber(ARGV[7])
+            if overflow > 0 then
+                local evicted = redis.call('zpopmin', KEYS[3], overflow)
+                for i = 1, #evicted, 2 do
+                    local token = redis.call('hget', KEYS[2], evicted[i])
+                    if token then
+                        redis.call('del', ARGV[8] .. token)
+                    end
+                    redis.call('hdel', KEYS[2], evicted[i])
+                end
+            end
+            redis.call('expire', KEYS[2], ARGV[4])
+            redis.call('expire', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: new token key, sessions key, expiry key, old token key. ARGV: user id, session id, new token,
+     * ttl in seconds, now, expires at, old token.
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(PURGE_EXPIRED + """
+            if redis.call('get', KEYS[4]) ~= ARGV[1] or redis.call('hget', KEYS[2], ARGV[2]) ~= ARGV[7] then
+                return 0
+            end
+            redis.call('del', KEYS[4])
+            redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            redis.call('hset', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('zadd', KEYS[3], ARGV[6], ARGV[2])
+            redis.call('expire', KEYS[2], ARGV[4])
+            redis.call('expire', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: token key, sessions key, expiry key. ARGV: session id, token.
+     */
+    private static final RedisScript<Long> REVOKE_TOKEN_SCRIPT = RedisScript.of("""
+            redis.call('del', KEYS[1])
+            if redis.call('hget', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('hdel', KEYS[2], ARGV[1])
+            redis.call('zrem', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: sessions key, expiry key. ARGV: session id, token key prefix.
+     */
+    private static final RedisScript<Long> REVOKE_SESSION_SCRIPT = RedisScript.of("""
+            local token = redis.call('hget', KEYS[1], ARGV[1])
+            if not token then
+                return 0
+            end
+            redis.call('del', ARGV[2] .. token)
+            redis.call('hdel', KEYS[1], ARGV[1])
+            redis.call('zrem', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: sessions key, expiry key. ARGV: token key prefix.
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+            local tokens = redis.call('hvals', KEYS[1])
+            for _, token in ipairs(tokens) do
+                redis.call('del', ARGV[1] .. token)
+            end
+            redis.call('del', KEYS[1], KEYS[2])
+            return #tokens
+            """, Long.class);
+
     private final JwtService jwtService;
     private final StringRedisTemplate redisTemplate;
     private final AppProperties appProperties;
 
-    public AuthResponse generateTokens(String username, Long userId, HttpServletResponse response) {
-        String accessToken = jwtService.generateAccessToken(username);
-        String refreshToken = jwtService.generateRefreshToken(username);
-
-        saveRefreshToken(refreshToken, userId);
-
-        ResponseCookie refreshTokenCookie = ResponseCookie.from(appProperties.getSecurity().getJwt().getCookieName(), refreshToken)
-                .httpOnly(true)
-                .secure(false)
-                .path("/auth/")
-                .maxAge(Duration.ofMinutes(appProperties.getSecurity().getJwt().getRefreshTokenExpiration()))
-                .sameSite(Cookie.SameSite.LAX.attributeValue())
-                .build();
+    /**
+     * Opens a new session for the device and issues its token pair. The sessions closest to expiry are dropped
+     * once the user has more than the configured maximum.
+     */
+    public AuthResponse generateTokens(CustomUserDetails userDetails, HttpServletResponse response) {
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtService.generateAccessToken(userDetails);
+        String refreshToken = jwtService.generateRefreshToken(userDetails, sessionId);
+        Instant now = Instant.now();
 
-        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+        redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(getTokenKey(refreshToken), getSessionsKey(userDetails.id()), getSessionExpiryKey(userDetails.id())),
+                userDetails.id().toString(), sessionId, refreshToken, String.valueOf(getRefreshTokenTtl().toSeconds()),
+                String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(getRefreshTokenTtl()).toEpochMilli()),
+                String.valueOf(appProperties.getSecurity().getJwt().getMaxSessions()), getRedis().getRefreshTokenPrefix());
 
-        return new AuthResponse(accessToken);
+        return respond(accessToken, refreshToken, response);
     }
 
     public AuthResponse validateAndRefreshToken(String refreshToken, HttpServletResponse response) {
@@ -45,60 +151,124 @@ public class TokenService {
             throw new AuthException("Refresh token not passed");
         }
 
-        String username = jwtService.extractUsername(refreshToken);
+        Claims claims = jwtService.extractAllClaims(refreshToken);
+        CustomUserDetails userDetails = jwtService.toUserDetails(claims);
+        String sessionId = jwtService.extractSessionId(claims);
+
+        String accessToken = jwtService.generateAccessToken(userDetails);
+        String newRefreshToken = jwtService.generateRefreshToken(userDetails, sessionId);
+        Instant now = Instant.now();
 
-        String key = getTokenKey(refreshToken);
-        String userId = redisTemplate.opsForValue().get(key);
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(getTokenKey(newRefreshToken), getSessionsKey(userDetails.id()),
+                        getSessionExpiryKey(userDetails.id()), getTokenKey(refreshToken)),
+                userDetails.id().toString(), sessionId, newRefreshToken, String.valueOf(getRefreshTokenTtl().toSeconds()),
+                String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(getRefreshTokenTtl()).toEpochMilli()),
+                refreshToken);
 
-        if (userId == null) {
+        if (!Long.valueOf(1).equals(rotated)) {
             throw new AuthException("Refresh token is revoked");
         }
 
-        redisTemplate.delete(getUserTokenKey(userId));
-        redisTemplate.delete(key);
+        return respond(accessToken, newRefreshToken, response);
+    }
+
+    public List<SessionResponse> getSessions(Long userId) {
+        Set<ZSetOperations.TypedTuple<String>> sessions = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(getSessionExpiryKey(userId), Instant.now().toEpochMilli(), Double.POSITIVE_INFINITY);
+
+        if (sessions == null) return List.of();
 
-        return generateTokens(username, Long.valueOf(userId), response);
+        return sessions.stream()
+                .map(session -> new SessionResponse(session.getValue(), LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(session.getScore().longValue()), ZoneId.systemDefault())))
+                .toList();
     }
 
-    public void deleteRefreshToken(Long userId) {
-        String key = getUserTokenKey(userId);
-        String token = redisTemplate.opsForValue().get(key);
+    public boolean revokeSession(Long userId, String sessionId) {
+        Long revoked = redisTemplate.execute(REVOKE_SESSION_SCRIPT,
+                List.of(getSessionsKey(userId), getSessionExpiryKey(userId)),
+                sessionId, getRedis().getRefreshTokenPrefix());
 
-        if (token != null) {
-            redisTemplate.delete(getTokenKey(token));
-            redisTemplate.delete(key);
-        }
+        return Long.valueOf(1).equals(revoked);
+    }
+
+    public void revokeAllSessions(Long userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT,
+                List.of(getSessionsKey(userId), getSessionExpiryKey(userId)),
+                getRedis().getRefreshTokenPrefix());
     }
 
+    /**
+     * Ends the session the refresh token belongs to. Expired or forged tokens are ignored, as their session
+     * is purged once it expires.
+     */
     public void deleteRefreshToken(String refreshToken) {
-        String key = getTokenKey(refreshToken);
-        String userId = redisTemplate.opsForValue().get(key);
+        Claims claims;
 
-        if (userId != null) {
-            redisTemplate.delete(getUserTokenKey(userId));
-            redisTemplate.delete(key);
+        try {
+            claims = jwtService.extractAllClaims(refreshToken);
+        } catch (AuthException e) {
+            return;
         }
+
+        Long userId = jwtService.toUserDetails(claims).id();
+
+        redisTemplate.execute(REVOKE_TOKEN_SCRIPT,
+                List.of(getTokenKey(refreshToken), getSessionsKey(userId), getSessionExpiryKey(userId)),
+                jwtService.extractSessionId(claims), refreshToken);
     }
 
-    private void saveRefreshToken(String token, Long userId) {
-        long refreshTokenExpiration = appProperties.getSecurity().getJwt().getRefreshTokenExpiration();
+    /**
+     * Denylists the access token until it expires, for the filter's optional revocation check.
+     */
+    public void revokeAccessToken(String accessToken) {
+        Duration remaining = Duration.between(Instant.now(), jwtService.extractExpiration(accessToken));
 
-        redisTemplate.opsForValue()
-                .set(getTokenKey(token), userId.toString(), refreshTokenExpiration, TimeUnit.MINUTES);
+        if (remaining.isPositive()) {
+            redisTemplate.opsForValue().set(getRevokedTokenKey(jwtService.extractTokenId(accessToken)), "", remaining);
+        }
+    }
 
-        redisTemplate.opsForValue()
-                .set(getUserTokenKey(userId), token, refreshTokenExpiration, TimeUnit.MINUTES);
+    public boolean isAccessTokenRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getRevokedTokenKey(tokenId)));
+    }
+
+    private AuthResponse respond(String accessToken, String refreshToken, HttpServletResponse response) {
+        ResponseCookie refreshTokenCookie = ResponseCookie.from(appProperties.getSecurity().getJwt().getCookieName(), refreshToken)
+                .httpOnly(true)
+                .secure(false)
+                .path("/auth/")
+                .maxAge(Duration.ofMinutes(appProperties.getSecurity().getJwt().getRefreshTokenExpiration()))
+                .sameSite(Cookie.SameSite.LAX.attributeValue())
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+
+        return new AuthResponse(accessToken);
+    }
+
+    private Duration getRefreshTokenTtl() {
+        return Duration.ofMinutes(appProperties.getSecurity().getJwt().getRefreshTokenExpiration());
+    }
+
+    private AppProperties.Security.Jwt.Redis getRedis() {
+        return appProperties.getSecurity().getJwt().getRedis();
     }
 
     private String getTokenKey(String refreshToken) {
-        return appProperties.getSecurity().getJwt().getRedis().getRefreshTokenPrefix() + refreshToken;
+        return getRedis().getRefreshTokenPrefix() + refreshToken;
+    }
+
+    private String getRevokedTokenKey(String tokenId) {
+        return getRedis().getRevokedTokenPrefix() + tokenId;
     }
 
-    private String getUserTokenKey(Long userId) {
-        return appProperties.getSecurity().getJwt().getRedis().getUserTokenPrefix() + userId;
+    private String getSessionsKey(Long userId) {
+        return getRedis().getSessionsPrefix() + userId;
     }
 
-    private String getUserTokenKey(String userId) {
-        return appProperties.getSecurity().getJwt().getRedis().getUserTokenPrefix() + userId;
+    private String getSessionExpiryKey(Long userId) {
+        return getRedis().getSessionExpiryPrefix() + userId;
     }
 }
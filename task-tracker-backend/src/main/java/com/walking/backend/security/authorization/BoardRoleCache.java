@@ -0,0 +1,93 @@
+package com.walking.backend.security.authorization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walking.backend.domain.event.BoardRoleChangedEvent;
+import com.walking.backend.domain.model.BoardRole;
+import com.walking.backend.domain.projection.BoardMembership;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.BoardMemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Local near-cache of every board role a user holds, so access checks are answered from memory.
+ * <p>
+ * A membership change evicts the user right away on this instance, and again on every instance through
+ * Redis pub/sub once the transaction completes, so revoked access takes effect immediately.
+ */
+@Component
+public class BoardRoleCache implements MessageListener {
+    private static final String ID_SEPARATOR = ",";
+
+    private final BoardMemberRepository boardMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Cache<Long, Map<Long, BoardRole>> rolesByUserId;
+
+    public BoardRoleCache(BoardMemberRepository boardMemberRepository,
+                          StringRedisTemplate redisTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          AppProperties appProperties) {
+        AppProperties.Security.NearCache roleCache = appProperties.getSecurity().getRoleCache();
+
+        this.boardMemberRepository = boardMemberRepository;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.channel = roleCache.getChannel();
+        this.rolesByUserId = Caffeine.newBuilder()
+                .maximumSize(roleCache.getMaxSize())
+                .expireAfterWrite(roleCache.getTtl())
+                .build();
+    }
+
+    public Optional<BoardRole> getRole(Long boardId, Long userId) {
+        return Optional.ofNullable(rolesByUserId.get(userId, this::loadRoles).get(boardId));
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        evict(userIds);
+        eventPublisher.publishEvent(new BoardRoleChangedEvent(List.copyOf(userIds)));
+    }
+
+    public void broadcastEviction(Collection<Long> userIds) {
+        evict(userIds);
+        redisTemplate.convertAndSend(channel, userIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR)));
+    }
+
+    public void evictAll() {
+        rolesByUserId.invalidateAll();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        evict(Arrays.stream(body.split(ID_SEPARATOR))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .toList());
+    }
+
+    private void evict(Collection<Long> userIds) {
+        rolesByUserId.invalidateAll(userIds);
+    }
+
+    private Map<Long, BoardRole> loadRoles(Long userId) {
+        return boardMemberRepository.findMembershipsByUserId(userId)
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(BoardMembership::boardId, BoardMembership::role));
+    }
+}
@@ -1,11 +1,12 @@
 package com.walking.backend.security.authorization;
 
 import com.walking.backend.domain.model.BoardRole;
-import com.walking.backend.repository.*;
+import com.walking.backend.repository.CommentRepository;
+import com.walking.backend.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.*;
 
 import static com.walking.backend.domain.model.BoardRole.EDITOR;
 import static com.walking.backend.domain.model.BoardRole.OWNER;
@@ -13,11 +14,10 @@ import static com.walking.backend.domain.model.BoardRole.OWNER;
 @Component
 @RequiredArgsConstructor
 public class ResourceAccessService {
-    private final BoardMemberRepository boardMemberRepository;
-    private final SectionRepository sectionRepository;
     private final TaskRepository taskRepository;
-    private final LabelRepository labelRepository;
     private final CommentRepository commentRepository;
+    private final BoardRoleCache boardRoleCache;
+    private final ResourceHierarchyCache resourceHierarchyCache;
 
     public boolean canManageComment(Long commentId, Long taskId, Long userId) {
         return canEditComment(commentId, userId) || canEditTask(taskId, userId);
@@ -28,15 +28,15 @@ public class ResourceAccessService {
     }
 
     public boolean canUseLabel(Long labelId, Long userId) {
-        return labelRepository.existsByLabelIdAndUserIdAndRoles(labelId, userId, List.of(OWNER, EDITOR));
+        return hasBoardRole(resourceHierarchyCache.getLabelBoardId(labelId), userId, OWNER, EDITOR);
     }
 
     public boolean canManageLabel(Long labelId, Long userId) {
-        return labelRepository.existsByLabelIdAndUserIdAndRoles(labelId, userId, List.of(OWNER));
+        return hasBoardRole(resourceHierarchyCache.getLabelBoardId(labelId), userId, OWNER);
     }
 
     public boolean canToggleTask(Long taskId, Long userId) {
-        return isTaskAssignee(taskId, userId) || canEditTask(taskId, userId);
+        return canEditTask(taskId, userId) || isTaskAssignee(taskId, userId);
     }
 
     private boolean isTaskAssignee(Long taskId, Long userId) {
@@ -44,23 +44,35 @@ public class ResourceAccessService {
     }
 
     public boolean canEditTask(Long taskId, Long userId) {
-        return taskRepository.existsByTaskIdAndUserIdAndRoles(taskId, userId, List.of(OWNER, EDITOR));
+        return hasBoardRole(resourceHierarchyCache.getTaskBoardId(taskId), userId, OWNER, EDITOR);
+    }
+
+    public boolean canEditTasks(Collection<Long> taskIds, Long userId) {
+        Set<Long> distinctTaskIds = new HashSet<>(taskIds);
+        Map<Long, Long> boardIds = resourceHierarchyCache.getTaskBoardIds(distinctTaskIds);
+
+        return boardIds.size() == distinctTaskIds.size() && new HashSet<>(boardIds.values()).stream()
+                .allMatch(boardId -> hasBoardRole(boardId, userId, OWNER, EDITOR));
     }
 
     public boolean canViewTask(Long taskId, Long userId) {
-        return taskRepository.existsByTaskIdAndUserId(taskId, userId);
+        return resourceHierarchyCache.getTaskBoardId(taskId)
+                .filter(boardId -> canViewBoard(boardId, userId))
+                .isPresent();
     }
 
     public boolean canViewSection(Long sectionId, Long userId) {
-        return sectionRepository.existsBySectionIdAndUserId(sectionId, userId);
+        return resourceHierarchyCache.getSectionBoardId(sectionId)
+                .filter(boardId -> canViewBoard(boardId, userId))
+                .isPresent();
     }
 
     public boolean canEditSection(Long sectionId, Long userId) {
-        return sectionRepository.existsBySectionIdAndUserIdAndRoles(sectionId, userId, List.of(OWNER, EDITOR));
+        return hasBoardRole(resourceHierarchyCache.getSectionBoardId(sectionId), userId, OWNER, EDITOR);
     }
 
     public boolean canViewBoard(Long boardId, Long userId) {
-        return boardMemberRepository.existsByIdBoardIdAndIdUserId(boardId, userId);
+        return boardRoleCache.getRole(boardId, userId).isPresent();
     }
 
     public boolean canManageBoard(Long boardId, Long userId) {
@@ -71,7 +83,15 @@ public class ResourceAccessService {
         return hasBoardRole(boardId, userId, OWNER, EDITOR);
     }
 
+    private boolean hasBoardRole(Optional<Long> boardId, Long userId, BoardRole... roles) {
+        return boardId
+                .filter(id -> hasBoardRole(id, userId, roles))
+                .isPresent();
+    }
+
     private boolean hasBoardRole(Long boardId, Long userId, BoardRole... roles) {
-        return boardMemberRepository.existsByIdBoardIdAndIdUserIdAndRoleIn(boardId, userId, List.of(roles));
+        return boardRoleCache.getRole(boardId, userId)
+                .filter(List.of(roles)::contains)
+                .isPresent();
     }
 }
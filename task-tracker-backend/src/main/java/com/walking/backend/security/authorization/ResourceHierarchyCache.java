@@ -0,0 +1,122 @@
+package com.walking.backend.security.authorization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walking.backend.domain.event.ResourceHierarchyChangedEvent;
+import com.walking.backend.domain.model.ResourceType;
+import com.walking.backend.domain.projection.ResourceBoardId;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.LabelRepository;
+import com.walking.backend.repository.SectionRepository;
+import com.walking.backend.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.walking.backend.domain.model.ResourceType.*;
+
+/**
+ * Lazily warmed index from task, section and label ids to the id of the board that owns them, which lets
+ * access checks resolve the board without joining through the hierarchy.
+ * <p>
+ * Entries are evicted when a resource moves or is deleted, locally right away and on every instance through
+ * Redis pub/sub once the transaction completes.
+ */
+@Component
+public class ResourceHierarchyCache implements MessageListener {
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String ID_SEPARATOR = ",";
+
+    private final TaskRepository taskRepository;
+    private final SectionRepository sectionRepository;
+    private final LabelRepository labelRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Map<ResourceType, Cache<Long, Long>> boardIds = new EnumMap<>(ResourceType.class);
+
+    public ResourceHierarchyCache(TaskRepository taskRepository,
+                                  SectionRepository sectionRepository,
+                                  LabelRepository labelRepository,
+                                  StringRedisTemplate redisTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  AppProperties appProperties) {
+        AppProperties.Security.NearCache hierarchyCache = appProperties.getSecurity().getHierarchyCache();
+
+        this.taskRepository = taskRepository;
+        this.sectionRepository = sectionRepository;
+        this.labelRepository = labelRepository;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.channel = hierarchyCache.getChannel();
+
+        for (ResourceType type : ResourceType.values()) {
+            boardIds.put(type, Caffeine.newBuilder()
+                    .maximumSize(hierarchyCache.getMaxSize())
+                    .expireAfterWrite(hierarchyCache.getTtl())
+                    .build());
+        }
+    }
+
+    public Optional<Long> getTaskBoardId(Long taskId) {
+        return Optional.ofNullable(boardIds.get(TASK).get(taskId, id -> taskRepository.findBoardIdByTaskId(id)
+                .orElse(null)));
+    }
+
+    /**
+     * Returns the board id of every existing task among {@code taskIds}, loading all misses with one query.
+     */
+    public Map<Long, Long> getTaskBoardIds(Collection<Long> taskIds) {
+        return boardIds.get(TASK).getAll(taskIds, missingIds -> taskRepository.findBoardIdsByTaskIdIn(Set.copyOf(missingIds))
+                .stream()
+                .collect(Collectors.toMap(ResourceBoardId::id, ResourceBoardId::boardId)));
+    }
+
+    public Optional<Long> getSectionBoardId(Long sectionId) {
+        return Optional.ofNullable(boardIds.get(SECTION).get(sectionId, id -> sectionRepository.findBoardIdBySectionId(id)
+                .orElse(null)));
+    }
+
+    public Optional<Long> getLabelBoardId(Long labelId) {
+        return Optional.ofNullable(boardIds.get(LABEL).get(labelId, id -> labelRepository.findBoardIdByLabelId(id)
+                .orElse(null)));
+    }
+
+    public void invalidate(ResourceType type, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        evict(type, ids);
+        eventPublisher.publishEvent(new ResourceHierarchyChangedEvent(type, List.copyOf(ids)));
+    }
+
+    public void broadcastEviction(ResourceType type, Collection<Long> ids) {
+        evict(type, ids);
+        redisTemplate.convertAndSend(channel, type.name() + TYPE_SEPARATOR + ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR)));
+    }
+
+    public void evictAll() {
+        boardIds.values().forEach(Cache::invalidateAll);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(TYPE_SEPARATOR, 2);
+
+        evict(ResourceType.valueOf(body[0]), Arrays.stream(body[1].split(ID_SEPARATOR))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .toList());
+    }
+
+    private void evict(ResourceType type, Collection<Long> ids) {
+        boardIds.get(type).invalidateAll(ids);
+    }
+}
@@ -1,9 +1,11 @@
 package com.walking.backend.security.filter;
 
 import com.walking.backend.domain.exception.AuthException;
-import com.walking.backend.security.principal.CustomUserDetails;
-import com.walking.backend.security.authentication.CustomUserDetailsService;
+import com.walking.backend.props.AppProperties;
 import com.walking.backend.security.authentication.JwtService;
+import com.walking.backend.security.authentication.TokenService;
+import com.walking.backend.security.principal.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +25,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final AppProperties appProperties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,13 +40,18 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        String username;
 
         try {
-            username = jwtService.extractUsername(token);
+            Claims claims = jwtService.extractAllClaims(token);
+            jwtService.requireAccessToken(claims);
+
+            if (appProperties.getSecurity().getJwt().isRevocationCheck() &&
+                    tokenService.isAccessTokenRevoked(claims.getId())) {
+                throw new AuthException("Token is revoked");
+            }
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                CustomUserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                CustomUserDetails userDetails = jwtService.toUserDetails(claims);
 
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
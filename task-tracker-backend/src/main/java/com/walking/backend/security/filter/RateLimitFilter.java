@@ -0,0 +1,110 @@
+package com.walking.backend.security.filter;
+
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.security.principal.CustomUserDetails;
+import com.walking.backend.security.ratelimit.TokenBucketRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Applies the configured token-bucket rules to expensive endpoints. Runs after {@link JwtFilter},
+ * so user-scoped rules can key on the authenticated user.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final TokenBucketRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final List<MatchedRule> rules;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, AppProperties appProperties) {
+        AppProperties.Security.RateLimit rateLimit = appProperties.getSecurity().getRateLimit();
+
+        this.rateLimiter = rateLimiter;
+        this.enabled = rateLimit.isEnabled();
+        this.rules = rateLimit.getRules().stream()
+                .map(rule -> new MatchedRule(rule, PathPatternParser.defaultInstance.parse(rule.getPath())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+
+        for (MatchedRule matched : rules) {
+            AppProperties.Security.RateLimit.Rule rule = matched.rule();
+
+            if (!rule.getMethod().matches(request.getMethod()) || !matched.pattern().matches(path)) {
+                continue;
+            }
+
+            Duration wait = rateLimiter.tryConsume(rule, resolveClientKey(rule, request));
+
+            if (!wait.isZero()) {
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveClientKey(AppProperties.Security.RateLimit.Rule rule, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (rule.getScope() == AppProperties.Security.RateLimit.Scope.USER &&
+                authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "user:" + userDetails.id();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        long retryAfter = Math.max(1, (wait.toMillis() + 999) / 1000);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8);
+
+        String json = """
+                {
+                    "status": 429,
+                    "error": "Too Many Requests",
+                    "message": "Rate limit exceeded, retry in %d seconds",
+                    "timestamp": "%s"
+                }
+                """.formatted(retryAfter, LocalDateTime.now());
+
+        response.getWriter().write(json);
+    }
+
+    private record MatchedRule(AppProperties.Security.RateLimit.Rule rule, PathPattern pattern) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.walking.backend.security.handler;
 
+import com.walking.backend.domain.exception.AuthException;
 import com.walking.backend.props.AppProperties;
 import com.walking.backend.security.authentication.TokenService;
 import jakarta.servlet.http.Cookie;
@@ -40,6 +41,16 @@ public class CustomLogoutHandler implements LogoutHandler {
             tokenService.deleteRefreshToken(refreshToken);
         }
 
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                tokenService.revokeAccessToken(authHeader.substring(7));
+            } catch (AuthException ignored) {
+                // an expired or forged access token has nothing left to revoke
+            }
+        }
+
         ResponseCookie refreshTokenCookie = ResponseCookie.from(cookieName, "")
                 .httpOnly(true)
                 .secure(false)
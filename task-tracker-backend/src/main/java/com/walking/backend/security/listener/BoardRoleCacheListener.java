@@ -0,0 +1,19 @@
+package com.walking.backend.security.listener;
+
+import com.walking.backend.domain.event.BoardRoleChangedEvent;
+import com.walking.backend.security.authorization.BoardRoleCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BoardRoleCacheListener {
+    private final BoardRoleCache boardRoleCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void handleBoardRoleChangedEvent(BoardRoleChangedEvent event) {
+        boardRoleCache.broadcastEviction(event.userIds());
+    }
+}
@@ -0,0 +1,19 @@
+package com.walking.backend.security.listener;
+
+import com.walking.backend.domain.event.ResourceHierarchyChangedEvent;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ResourceHierarchyCacheListener {
+    private final ResourceHierarchyCache resourceHierarchyCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void handleResourceHierarchyChangedEvent(ResourceHierarchyChangedEvent event) {
+        resourceHierarchyCache.broadcastEviction(event.type(), event.ids());
+    }
+}
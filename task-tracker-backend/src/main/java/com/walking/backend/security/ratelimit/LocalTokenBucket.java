@@ -0,0 +1,32 @@
+package com.walking.backend.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * In-memory counterpart of the Redis bucket, used only while Redis is unavailable.
+ */
+class LocalTokenBucket {
+    private final int capacity;
+    private final long refillNanos;
+    private double tokens;
+    private long updated;
+
+    LocalTokenBucket(int capacity, Duration refillPeriod) {
+        this.capacity = capacity;
+        this.refillNanos = refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.updated = System.nanoTime();
+    }
+
+    synchronized Duration tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (double) Math.max(0, now - updated) * capacity / refillNanos);
+        updated = now;
+
+        if (tokens >= 1) {
+            tokens--;
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos((long) Math.ceil((1 - tokens) * refillNanos / capacity));
+    }
+}
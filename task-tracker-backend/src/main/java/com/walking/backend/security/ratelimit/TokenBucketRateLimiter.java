@@ -0,0 +1,114 @@
+package com.walking.backend.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walking.backend.props.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token buckets kept in Redis, so every instance shares one budget per client. Each check is a single script call.
+ * <p>
+ * When Redis fails or answers slower than the configured threshold, checks switch to per-instance buckets
+ * for the fallback period instead of holding requests up.
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+    /**
+     * KEYS: bucket key. ARGV: capacity, refill period in millis. Returns 0 when a token was taken,
+     * otherwise the millis until the next token.
+     */
+    private static final RedisScript<Long> CONSUME_SCRIPT = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local refill = tonumber(ARGV[2])
+            local time = redis.call('time')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            local bucket = redis.call('hmget', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / refill)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.max(1, math.ceil((1 - tokens) * refill / capacity))
+            end
+            redis.call('hset', KEYS[1], 'tokens', tokens, 'ts', now)
+            redis.call('pexpire', KEYS[1], refill)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AppProperties.Security.RateLimit rateLimit;
+    private final Cache<String, LocalTokenBucket> localBuckets;
+    private volatile long redisDegradedUntil;
+
+    public TokenBucketRateLimiter(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  AppProperties appProperties) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.rateLimit = appProperties.getSecurity().getRateLimit();
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(rateLimit.getLocalMaxBuckets())
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * Takes a token from the client's bucket for the rule. Returns how long the client has to wait,
+     * or {@link Duration#ZERO} when the request may proceed.
+     */
+    public Duration tryConsume(AppProperties.Security.RateLimit.Rule rule, String clientKey) {
+        String key = rateLimit.getKeyPrefix() + rule.getName() + ":" + clientKey;
+        Duration wait = System.nanoTime() < redisDegradedUntil
+                ? consumeLocally(rule, key)
+                : consumeInRedis(rule, key);
+
+        if (!wait.isZero()) {
+            meterRegistry.counter("rate_limit.rejected", "rule", rule.getName()).increment();
+        }
+
+        return wait;
+    }
+
+    private Duration consumeInRedis(AppProperties.Security.RateLimit.Rule rule, String key) {
+        long start = System.nanoTime();
+        Long wait;
+
+        try {
+            wait = redisTemplate.execute(CONSUME_SCRIPT, List.of(key),
+                    String.valueOf(rule.getCapacity()), String.valueOf(rule.getRefillPeriod().toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Rate limit check in Redis failed, using local buckets: {}", e.getMessage());
+            degradeRedis();
+            return consumeLocally(rule, key);
+        }
+
+        if (System.nanoTime() - start > rateLimit.getSlowCallThreshold().toNanos()) {
+            log.warn("Rate limit check in Redis took longer than {}, using local buckets", rateLimit.getSlowCallThreshold());
+            degradeRedis();
+        }
+
+        return wait == null ? consumeLocally(rule, key) : Duration.ofMillis(wait);
+    }
+
+    private Duration consumeLocally(AppProperties.Security.RateLimit.Rule rule, String key) {
+        meterRegistry.counter("rate_limit.local_fallback", "rule", rule.getName()).increment();
+
+        return localBuckets.get(key, ignored -> new LocalTokenBucket(rule.getCapacity(), rule.getRefillPeriod()))
+                .tryConsume(System.nanoTime());
+    }
+
+    private void degradeRedis() {
+        redisDegradedUntil = System.nanoTime() + rateLimit.getFallbackPeriod().toNanos();
+    }
+}
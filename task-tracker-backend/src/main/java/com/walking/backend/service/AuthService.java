@@ -1,10 +1,13 @@
 package com.walking.backend.service;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.List;
+
 public interface AuthService {
 
     AuthResponse signUp(SignUpRequest signUpRequest, HttpServletResponse response);
@@ -12,4 +15,10 @@ public interface AuthService {
     AuthResponse signIn(SignInRequest signInRequest, HttpServletResponse response);
 
     AuthResponse refreshToken(String refreshToken, HttpServletResponse response);
+
+    List<SessionResponse> getSessions(Long userId);
+
+    void revokeSession(Long userId, String sessionId);
+
+    void revokeAllSessions(Long userId);
 }
@@ -2,6 +2,7 @@ package com.walking.backend.service;
 
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
 import com.walking.backend.domain.model.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,8 @@ public interface BoardService {
 
     Board getProxyBoardById(Long boardId);
 
+    BoardSnapshotResponse getBoardSnapshot(Long boardId);
+
     BoardResponse createBoard(BoardRequest boardRequest, Long userId);
 
     BoardResponse updateBoard(BoardRequest boardRequest, Long boarId);
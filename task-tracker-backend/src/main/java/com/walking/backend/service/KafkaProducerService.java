@@ -3,9 +3,13 @@ package com.walking.backend.service;
 import com.walking.backend.domain.dto.kafka.MessageDto;
 import com.walking.backend.domain.event.UserActivityEvent;
 
+import java.util.Map;
+
 public interface KafkaProducerService {
 
     void sendMessageDto(Long key, MessageDto messageDto);
 
     void sendUserActivityEvent(Long key, UserActivityEvent userActivityEvent);
+
+    void sendUserActivityEvents(Map<Long, UserActivityEvent> userActivityEvents);
 }
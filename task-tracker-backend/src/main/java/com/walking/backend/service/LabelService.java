@@ -7,6 +7,7 @@ import com.walking.backend.domain.model.Label;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 public interface LabelService {
@@ -15,6 +16,8 @@ public interface LabelService {
 
     Label getLabelById(Long labelId);
 
+    List<Label> getBoardLabelsByIds(Long boardId, Set<Long> labelIds);
+
     LabelResponse createLabel(CreateLabelRequest createLabelRequest);
 
     LabelResponse updateLabel(UpdateLabelRequest updateLabelRequest, Long labelId);
@@ -5,18 +5,28 @@ import com.walking.backend.domain.model.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TaskService {
 
     Page<TaskPreviewResponse> getTasks(Long sectionId, Pageable pageable);
 
     Page<TaskPreviewResponse> searchTasks(Long boardId, TaskFilter taskFilter, Pageable pageable);
 
+    Page<TaskSearchResponse> searchTasksRanked(Long boardId, TaskFilter taskFilter, Pageable pageable);
+
+    TaskSliceResponse scrollTasks(Long sectionId, TaskCursorRequest taskCursorRequest);
+
+    TaskSliceResponse scrollSearchTasks(Long boardId, TaskFilter taskFilter, TaskCursorRequest taskCursorRequest);
+
     TaskFullResponse getTaskById(Long taskId);
 
     Task getProxyTaskById(Long taskId);
 
     TaskFullResponse createTask(CreateTaskRequest createTaskRequest);
 
+    BulkCreateTasksResponse createTasks(BulkCreateTasksRequest bulkCreateTasksRequest);
+
     TaskFullResponse updateTask(UpdateTaskRequest updateTaskRequest, Long taskId);
 
     void deleteTask(Long taskId);
@@ -25,6 +35,10 @@ public interface TaskService {
 
     TaskPreviewResponse moveTask(Long taskId, MoveTaskRequest moveTaskRequest);
 
+    List<TaskPreviewResponse> moveTasks(MoveTasksRequest moveTasksRequest);
+
+    BulkTaskOperationResponse applyBulkOperation(BulkTaskOperationRequest bulkTaskOperationRequest);
+
     TaskPreviewResponse addLabelToTask(Long taskId, Long labelId);
 
     TaskPreviewResponse deleteLabelFromTask(Long taskId, Long labelId);
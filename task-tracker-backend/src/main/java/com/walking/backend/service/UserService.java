@@ -29,6 +29,8 @@ public interface UserService {
 
     Map<Long, List<UserShortResponse>> getAssigneeByTaskIds(Set<Long> taskIds);
 
+    Map<Long, List<UserShortResponse>> getAssigneeByBoardId(Long boardId);
+
     UserResponse createUser(SignUpRequest signUpRequest);
 
     UserPublicProfileResponse getUserProfileById(Long userId);
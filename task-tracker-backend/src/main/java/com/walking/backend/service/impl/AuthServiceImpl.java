@@ -1,11 +1,13 @@
 package com.walking.backend.service.impl;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
 import com.walking.backend.domain.dto.kafka.MessageDto;
 import com.walking.backend.domain.dto.user.UserResponse;
 import com.walking.backend.domain.exception.AuthException;
+import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.security.authentication.TokenService;
 import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.AuthService;
@@ -20,6 +22,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -35,7 +39,8 @@ public class AuthServiceImpl implements AuthService {
         UserResponse userResponse = userService.createUser(signUpRequest);
         kafkaProducerService.sendMessageDto(userResponse.id(), createMessage(userResponse));
 
-        return tokenService.generateTokens(userResponse.username(), userResponse.id(), response);
+        return tokenService.generateTokens(new CustomUserDetails(
+                userResponse.id(), userResponse.username(), userResponse.email(), null), response);
     }
 
     @Override
@@ -50,9 +55,8 @@ public class AuthServiceImpl implements AuthService {
         }
 
         CustomUserDetails userDetails = (CustomUserDetails) authenticate.getPrincipal();
-        tokenService.deleteRefreshToken(userDetails.id());
 
-        return tokenService.generateTokens(userDetails.username(), userDetails.id(), response);
+        return tokenService.generateTokens(userDetails, response);
     }
 
     @Override
@@ -60,6 +64,23 @@ public class AuthServiceImpl implements AuthService {
         return tokenService.validateAndRefreshToken(refreshToken, response);
     }
 
+    @Override
+    public List<SessionResponse> getSessions(Long userId) {
+        return tokenService.getSessions(userId);
+    }
+
+    @Override
+    public void revokeSession(Long userId, String sessionId) {
+        if (!tokenService.revokeSession(userId, sessionId)) {
+            throw new ObjectNotFoundException("Session %s not found".formatted(sessionId));
+        }
+    }
+
+    @Override
+    public void revokeAllSessions(Long userId) {
+        tokenService.revokeAllSessions(userId);
+    }
+
     private MessageDto createMessage(UserResponse userResponse) {
         String message = """
                 Hello, %s!
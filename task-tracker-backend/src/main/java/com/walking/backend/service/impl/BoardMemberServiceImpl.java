@@ -15,6 +15,7 @@ import com.walking.backend.domain.model.User;
 import com.walking.backend.repository.BoardMemberRepository;
 import com.walking.backend.repository.TaskRepository;
 import com.walking.backend.repository.specification.BoardMemberSpecification;
+import com.walking.backend.security.authorization.BoardRoleCache;
 import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.BoardMemberService;
 import com.walking.backend.service.BoardService;
@@ -29,6 +30,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.walking.backend.domain.model.ActivityType.*;
 import static com.walking.backend.domain.model.BoardRole.OWNER;
 
@@ -42,6 +45,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
     private final UserService userService;
     private final KafkaProducerService kafkaProducerService;
     private final ActivityService activityService;
+    private final BoardRoleCache boardRoleCache;
     private final BoardMemberResponseMapper boardMemberResponseMapper;
 
     @Override
@@ -84,6 +88,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
         BoardMember newMember = new BoardMember(board, user, boardMemberRequest.role());
         board.getMembers().add(newMember);
         boardMemberRepository.flush();
+        boardRoleCache.invalidate(List.of(user.getId()));
 
         kafkaProducerService.sendMessageDto(user.getId(), createBoardInvitationMessage(
                 user, board.getName(), userDetails.username()));
@@ -105,6 +110,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
         taskRepository.removeAssigneeFromBoardTasks(boardId, userId);
 
         boardMemberRepository.delete(boardMember);
+        boardRoleCache.invalidate(List.of(userId));
 
         activityService.publish(board, MEMBER_REMOVED,
                 "Removed member %s".formatted(boardMember.getUser().getUsername()));
@@ -126,6 +132,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
 
         boardMember.setRole(boardMemberRequest.role());
         boardMemberRepository.flush();
+        boardRoleCache.invalidate(List.of(boardMemberRequest.userId()));
 
         activityService.publish(board, MEMBER_ROLE_CHANGED,
                 "Changed role for %s from %s to %s".formatted(boardMember.getUser().getUsername(), oldRole, newRole));
@@ -147,6 +154,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
         taskRepository.removeAssigneeFromBoardTasks(boardId, currentUserId);
 
         boardMemberRepository.delete(member);
+        boardRoleCache.invalidate(List.of(currentUserId));
     }
 
     private MessageDto createBoardInvitationMessage(User user, String boardName, String inviterName) {
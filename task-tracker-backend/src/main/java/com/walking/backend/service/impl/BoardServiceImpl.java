@@ -2,31 +2,49 @@ package com.walking.backend.service.impl;
 
 import com.walking.backend.audit.annotation.TrackActivity;
 import com.walking.backend.audit.service.ActivityService;
+import com.walking.backend.audit.service.BoardLookupService;
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
+import com.walking.backend.domain.dto.label.LabelResponse;
+import com.walking.backend.domain.dto.section.SectionResponse;
+import com.walking.backend.domain.dto.section.SectionSnapshotResponse;
+import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.Board;
 import com.walking.backend.domain.model.BoardMember;
 import com.walking.backend.domain.model.BoardRole;
 import com.walking.backend.domain.model.User;
+import com.walking.backend.domain.projection.BoardInfo;
+import com.walking.backend.domain.projection.TaskLabelProjection;
+import com.walking.backend.domain.projection.TaskPreviewProjection;
 import com.walking.backend.props.CacheNames;
+import com.walking.backend.repository.BoardMemberRepository;
 import com.walking.backend.repository.BoardRepository;
+import com.walking.backend.repository.SectionRepository;
 import com.walking.backend.repository.TaskAttachmentRepository;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.BoardRoleCache;
 import com.walking.backend.service.BoardService;
 import com.walking.backend.service.UserService;
 import com.walking.backend.service.mapper.board.BoardRequestMapper;
 import com.walking.backend.service.mapper.board.BoardResponseMapper;
+import com.walking.backend.service.mapper.task.TaskPreviewResponseMapper;
 import com.walking.backend.storage.service.ResourceCleanupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.walking.backend.domain.model.ActivityType.*;
 
@@ -35,12 +53,18 @@ import static com.walking.backend.domain.model.ActivityType.*;
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
     private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final SectionRepository sectionRepository;
+    private final TaskRepository taskRepository;
     private final TaskAttachmentRepository taskAttachmentRepository;
     private final UserService userService;
     private final ActivityService activityService;
+    private final BoardLookupService boardLookupService;
     private final ResourceCleanupService resourceCleanupService;
+    private final BoardRoleCache boardRoleCache;
     private final BoardRequestMapper boardRequestMapper;
     private final BoardResponseMapper boardResponseMapper;
+    private final TaskPreviewResponseMapper taskPreviewResponseMapper;
 
     @Override
     public Page<BoardResponse> getBoards(Long userId, Pageable pageable) {
@@ -53,6 +77,50 @@ public class BoardServiceImpl implements BoardService {
         return boardRepository.getReferenceById(boardId);
     }
 
+    @Override
+    @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
+    public BoardSnapshotResponse getBoardSnapshot(Long boardId) {
+        BoardInfo boardInfo = boardRepository.findBoardInfoById(boardId);
+
+        if (boardInfo == null) {
+            throw new ObjectNotFoundException("Board with id %d not found".formatted(boardId));
+        }
+
+        List<SectionResponse> sections = sectionRepository.findSectionResponsesByBoardId(boardId);
+        List<TaskPreviewProjection> tasks = taskRepository.findTaskPreviewsByBoardId(boardId);
+
+        Map<Long, List<LabelResponse>> labelsByTaskId = taskRepository.findTaskLabelsByBoardId(boardId)
+                .stream()
+                .collect(Collectors.groupingBy(
+                                TaskLabelProjection::taskId,
+                                Collectors.mapping(
+                                        l -> new LabelResponse(l.labelId(), l.name(), l.colour(), l.boardId()),
+                                        Collectors.toList())
+                        )
+                );
+        Map<Long, List<UserShortResponse>> assigneesByTaskId = userService.getAssigneeByBoardId(boardId);
+
+        Map<Long, List<TaskPreviewResponse>> tasksBySectionId = new LinkedHashMap<>();
+        sections.forEach(section -> tasksBySectionId.put(section.id(), new ArrayList<>()));
+
+        for (TaskPreviewProjection task : tasks) {
+            tasksBySectionId.computeIfAbsent(task.sectionId(), k -> new ArrayList<>())
+                    .add(taskPreviewResponseMapper.toDto(
+                            task,
+                            labelsByTaskId.getOrDefault(task.id(), List.of()),
+                            assigneesByTaskId.getOrDefault(task.id(), List.of()))
+                    );
+        }
+
+        List<SectionSnapshotResponse> sectionSnapshots = sections.stream()
+                .map(section -> new SectionSnapshotResponse(
+                        section.id(), section.name(), tasksBySectionId.get(section.id()))
+                )
+                .toList();
+
+        return new BoardSnapshotResponse(boardInfo.id(), boardInfo.name(), sectionSnapshots);
+    }
+
     @Override
     @Transactional
     @TrackActivity(type = BOARD_CREATED, description = "'Created board ' + #result.name")
@@ -64,6 +132,7 @@ public class BoardServiceImpl implements BoardService {
         board.getMembers().add(member);
 
         Board savedBoard = boardRepository.save(board);
+        boardRoleCache.invalidate(List.of(userId));
 
         return boardResponseMapper.toDto(savedBoard);
     }
@@ -71,10 +140,7 @@ public class BoardServiceImpl implements BoardService {
     @Override
     @Transactional
     @PreAuthorize("@resourceAccessService.canManageBoard(#boardId, principal.id)")
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_INFO, key = "#boardId"),
-            @CacheEvict(value = CacheNames.BOARD_INFO_SECTION, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.BOARD_INFO, key = "#boardId")
     public BoardResponse updateBoard(BoardRequest boardRequest, Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ObjectNotFoundException("Board with id %d not found".formatted(boardId)));
@@ -85,6 +151,7 @@ public class BoardServiceImpl implements BoardService {
         board.setName(newName);
 
         Board updatedBoard = boardRepository.save(board);
+        boardLookupService.invalidateBoardInfoBySections(boardId);
 
         activityService.publish(updatedBoard, BOARD_UPDATED, "Renamed board from %s to %s".formatted(oldName, newName));
 
@@ -94,17 +161,17 @@ public class BoardServiceImpl implements BoardService {
     @Override
     @Transactional
     @PreAuthorize("@resourceAccessService.canManageBoard(#boardId, principal.id)")
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_INFO, key = "#boardId"),
-            @CacheEvict(value = CacheNames.BOARD_INFO_SECTION, allEntries = true)
-    })
+    @CacheEvict(value = CacheNames.BOARD_INFO, key = "#boardId")
     public void deleteBoard(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ObjectNotFoundException("Board with id %d not found".formatted(boardId)));
 
         List<String> filePaths = taskAttachmentRepository.findAllFilePathByBoardId(boardId);
+        List<Long> memberIds = boardMemberRepository.findUserIdsByBoardId(boardId);
 
         boardRepository.delete(board);
+        boardRoleCache.invalidate(memberIds);
+        boardLookupService.invalidateBoardInfoBySections(boardId);
 
         activityService.publish(board, BOARD_DELETED, "Deleted board %s".formatted(board.getName()));
         resourceCleanupService.cleanupFiles(filePaths);
@@ -39,4 +39,19 @@ public class KafkaProducerServiceImpl implements KafkaProducerService {
                     }
                 });
     }
+
+    /**
+     * Sends without waiting between records, so the producer packs them into as few requests as its batching allows.
+     * A record the producer rejects up front is logged and does not stop the rest.
+     */
+    @Override
+    public void sendUserActivityEvents(Map<Long, UserActivityEvent> userActivityEvents) {
+        userActivityEvents.forEach((key, userActivityEvent) -> {
+            try {
+                sendUserActivityEvent(key, userActivityEvent);
+            } catch (RuntimeException e) {
+                log.error("Failed to send activity to Kafka: {}", userActivityEvent, e);
+            }
+        });
+    }
 }
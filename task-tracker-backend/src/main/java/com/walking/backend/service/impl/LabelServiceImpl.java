@@ -10,12 +10,15 @@ import com.walking.backend.domain.exception.LabelLimitExceededException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.Board;
 import com.walking.backend.domain.model.Label;
+import com.walking.backend.domain.model.ResourceType;
 import com.walking.backend.props.AppProperties;
 import com.walking.backend.repository.LabelRepository;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.BoardService;
 import com.walking.backend.service.LabelService;
 import com.walking.backend.service.mapper.label.CreateLabelRequestMapper;
 import com.walking.backend.service.mapper.label.LabelResponseMapper;
+import com.walking.backend.util.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.walking.backend.domain.model.ActivityType.*;
 
@@ -35,13 +39,14 @@ public class LabelServiceImpl implements LabelService {
     private final ActivityService activityService;
     private final CreateLabelRequestMapper createLabelRequestMapper;
     private final LabelResponseMapper labelResponseMapper;
+    private final ResourceHierarchyCache resourceHierarchyCache;
     private final AppProperties appProperties;
 
     @Override
     @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
     public List<LabelResponse> getLabels(Long boardId, String name) {
         List<Label> labels = (name != null && !name.isBlank())
-                ? labelRepository.findAllByBoardIdAndNameContainingIgnoreCase(boardId, name)
+                ? labelRepository.findAllByBoardIdAndNameLike(boardId, LikePatterns.contains(name))
                 : labelRepository.findAllByBoardId(boardId);
 
         return labels.stream()
@@ -55,6 +60,11 @@ public class LabelServiceImpl implements LabelService {
                 .orElseThrow(() -> new ObjectNotFoundException("Label with id %d not found".formatted(labelId)));
     }
 
+    @Override
+    public List<Label> getBoardLabelsByIds(Long boardId, Set<Long> labelIds) {
+        return labelRepository.findAllByBoardIdAndIdIn(boardId, labelIds);
+    }
+
     @Override
     @Transactional
     @PreAuthorize("@resourceAccessService.canManageBoard(#createLabelRequest.boardId(), principal.id)")
@@ -120,6 +130,7 @@ public class LabelServiceImpl implements LabelService {
         Board board = label.getBoard();
 
         labelRepository.delete(label);
+        resourceHierarchyCache.invalidate(ResourceType.LABEL, List.of(labelId));
 
         activityService.publish(board, LABEL_DELETED, "Deleted label %s".formatted(label.getName()));
     }
@@ -8,9 +8,12 @@ import com.walking.backend.domain.dto.section.UpdateSectionRequest;
 import com.walking.backend.domain.exception.DuplicateException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.Board;
+import com.walking.backend.domain.model.ResourceType;
 import com.walking.backend.domain.model.Section;
 import com.walking.backend.repository.SectionRepository;
 import com.walking.backend.repository.TaskAttachmentRepository;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.BoardService;
 import com.walking.backend.service.SectionService;
 import com.walking.backend.service.mapper.section.CreateSectionRequestMapper;
@@ -34,9 +37,11 @@ import static com.walking.backend.domain.model.ActivityType.*;
 public class SectionServiceImpl implements SectionService {
     private final SectionRepository sectionRepository;
     private final TaskAttachmentRepository taskAttachmentRepository;
+    private final TaskRepository taskRepository;
     private final BoardService boardService;
     private final ActivityService activityService;
     private final ResourceCleanupService resourceCleanupService;
+    private final ResourceHierarchyCache resourceHierarchyCache;
     private final CreateSectionRequestMapper createSectionRequestMapper;
     private final SectionResponseMapper sectionResponseMapper;
 
@@ -106,10 +111,13 @@ public class SectionServiceImpl implements SectionService {
                 .orElseThrow(() -> new ObjectNotFoundException("Section with id %d not found".formatted(sectionId)));
 
         List<String> filePaths = taskAttachmentRepository.findAllFilePathBySectionId(sectionId);
+        List<Long> taskIds = taskRepository.findIdsBySectionId(sectionId);
 
         Board board = section.getBoard();
 
         sectionRepository.delete(section);
+        resourceHierarchyCache.invalidate(ResourceType.SECTION, List.of(sectionId));
+        resourceHierarchyCache.invalidate(ResourceType.TASK, taskIds);
 
         activityService.publish(board, SECTION_DELETED, "Deleted section %s".formatted(section.getName()));
         resourceCleanupService.cleanupFiles(filePaths);
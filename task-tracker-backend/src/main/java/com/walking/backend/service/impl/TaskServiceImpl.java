@@ -6,9 +6,15 @@ import com.walking.backend.domain.dto.task.*;
 import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.exception.*;
 import com.walking.backend.domain.model.*;
+import com.walking.backend.domain.projection.TaskMoveProjection;
+import com.walking.backend.domain.projection.TaskPosition;
+import com.walking.backend.domain.projection.TaskSearchHit;
 import com.walking.backend.props.AppProperties;
+import com.walking.backend.rebalance.service.SectionRebalanceService;
+import com.walking.backend.repository.TaskAttachmentRepository;
 import com.walking.backend.repository.TaskRepository;
 import com.walking.backend.repository.specification.TaskSpecification;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.LabelService;
 import com.walking.backend.service.SectionService;
 import com.walking.backend.service.TaskService;
@@ -17,18 +23,22 @@ import com.walking.backend.service.mapper.task.CreateTaskRequestMapper;
 import com.walking.backend.service.mapper.task.TaskFullResponseMapper;
 import com.walking.backend.service.mapper.task.TaskPreviewResponseMapper;
 import com.walking.backend.storage.service.ResourceCleanupService;
+import com.walking.backend.util.TaskCursorCodec;
+import com.walking.backend.util.TaskRank;
+import com.walking.backend.util.TsQueryBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.walking.backend.domain.model.ActivityType.*;
@@ -37,12 +47,21 @@ import static com.walking.backend.domain.model.ActivityType.*;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    private static final int DEFAULT_SCROLL_SIZE = 50;
+    private static final Sort POSITION_SORT = Sort.by("position", "id");
+    private static final Sort CREATED_SORT = Sort.by(Sort.Direction.DESC, "created", "id");
+    private static final Comparator<TaskPosition> TASK_POSITION_ORDER =
+            Comparator.comparing(TaskPosition::position).thenComparing(TaskPosition::id);
+
     private final TaskRepository taskRepository;
+    private final TaskAttachmentRepository taskAttachmentRepository;
     private final SectionService sectionService;
     private final UserService userService;
     private final LabelService labelService;
     private final ActivityService activityService;
     private final ResourceCleanupService resourceCleanupService;
+    private final SectionRebalanceService sectionRebalanceService;
+    private final ResourceHierarchyCache resourceHierarchyCache;
     private final CreateTaskRequestMapper createTaskRequestMapper;
     private final TaskFullResponseMapper taskFullResponseMapper;
     private final TaskPreviewResponseMapper taskPreviewResponseMapper;
@@ -55,30 +74,65 @@ public class TaskServiceImpl implements TaskService {
 
         Page<Task> tasks = taskRepository.findAll(spec, pageable);
 
-        Map<Long, List<UserShortResponse>> assigneesByTaskId = loadAssigneesBatch(tasks.getContent());
-
-        return tasks.map(task ->
-                taskPreviewResponseMapper.toDto(task, assigneesByTaskId.getOrDefault(task.getId(), List.of())));
+        return toPreviewPage(tasks);
     }
 
     @Override
     @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
     public Page<TaskPreviewResponse> searchTasks(Long boardId, TaskFilter taskFilter, Pageable pageable) {
-        Specification<Task> spec = Specification.where(TaskSpecification.hasBoardId(boardId))
-                .and(TaskSpecification.hasSectionId(taskFilter.sectionId()))
-                .and(TaskSpecification.hasTitle(taskFilter.title()))
-                .and(TaskSpecification.hasCompleted(taskFilter.completed()))
-                .and(TaskSpecification.hasLabels(taskFilter.labelIds()))
-                .and(TaskSpecification.hasAssignees(taskFilter.assigneeIds()))
-                .and(TaskSpecification.hasDueDate(taskFilter.dueDateFrom(), taskFilter.dueDateTo()))
-                .and(TaskSpecification.hasCreatedBetween(taskFilter.createdFrom(), taskFilter.createdTo()));
+        if (taskFilter.query() != null && !taskFilter.query().isBlank()) {
+            return findRankedTasks(boardId, taskFilter, pageable)
+                    .map(TaskSearchResponse::task);
+        }
+
+        Specification<Task> spec = buildSearchSpecification(boardId, taskFilter);
 
         Page<Task> tasks = taskRepository.findAll(spec, pageable);
 
-        Map<Long, List<UserShortResponse>> assigneesByTaskId = loadAssigneesBatch(tasks.getContent());
+        return toPreviewPage(tasks);
+    }
 
-        return tasks.map(task ->
-                taskPreviewResponseMapper.toDto(task, assigneesByTaskId.getOrDefault(task.getId(), List.of())));
+    @Override
+    @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
+    public Page<TaskSearchResponse> searchTasksRanked(Long boardId, TaskFilter taskFilter, Pageable pageable) {
+        return findRankedTasks(boardId, taskFilter, pageable);
+    }
+
+    @Override
+    @PreAuthorize("@resourceAccessService.canViewSection(#sectionId, principal.id)")
+    public TaskSliceResponse scrollTasks(Long sectionId, TaskCursorRequest taskCursorRequest) {
+        TaskCursor<String> cursor = TaskCursorCodec.decode(taskCursorRequest.cursor(), Function.identity());
+        int size = resolveScrollSize(taskCursorRequest);
+
+        Specification<Task> spec = Specification.where(TaskSpecification.hasSectionId(sectionId))
+                .and(TaskSpecification.isAfterPosition(cursor));
+
+        List<Task> tasks = taskRepository.findBy(spec, query -> query.sortBy(POSITION_SORT)
+                .limit(size + 1)
+                .all());
+
+        return buildSlice(tasks, size, Task::getPosition);
+    }
+
+    /**
+     * Seeks each section of the board through {@code idx_task_section_id_created_id} and merges them with a top-N sort,
+     * so a page costs one short index range per section. Only the section scroll is constant cost regardless of depth;
+     * task has no board column to index the board-wide created order directly.
+     */
+    @Override
+    @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
+    public TaskSliceResponse scrollSearchTasks(Long boardId, TaskFilter taskFilter, TaskCursorRequest taskCursorRequest) {
+        TaskCursor<LocalDateTime> cursor = TaskCursorCodec.decode(taskCursorRequest.cursor(), LocalDateTime::parse);
+        int size = resolveScrollSize(taskCursorRequest);
+
+        Specification<Task> spec = buildSearchSpecification(boardId, taskFilter)
+                .and(TaskSpecification.isCreatedBefore(cursor));
+
+        List<Task> tasks = taskRepository.findBy(spec, query -> query.sortBy(CREATED_SORT)
+                .limit(size + 1)
+                .all());
+
+        return buildSlice(tasks, size, Task::getCreated);
     }
 
     @Override
@@ -105,18 +159,50 @@ public class TaskServiceImpl implements TaskService {
 
         assignUsersToTask(createTaskRequest.sectionId(), createTaskRequest.assigneeIds(), task);
 
-        double positionStep = appProperties.getTask().getPositionStep();
-
-        Double position = Optional.ofNullable(taskRepository.findMaxPositionBySectionId(createTaskRequest.sectionId()))
-                .map(p -> p + positionStep)
-                .orElse(positionStep);
-        task.setPosition(position);
+        taskRepository.lockSection(createTaskRequest.sectionId());
+        String lastPosition = taskRepository.findMaxPositionBySectionId(createTaskRequest.sectionId());
+        task.setPosition(TaskRank.after(lastPosition));
 
         Task savedTask = taskRepository.save(task);
 
         return taskFullResponseMapper.toDto(savedTask, loadAssignees(task));
     }
 
+    @Override
+    @Transactional
+    @PreAuthorize("@resourceAccessService.canEditSection(#bulkCreateTasksRequest.sectionId(), principal.id)")
+    public BulkCreateTasksResponse createTasks(BulkCreateTasksRequest bulkCreateTasksRequest) {
+        Long sectionId = bulkCreateTasksRequest.sectionId();
+        List<BulkTaskItem> items = bulkCreateTasksRequest.tasks();
+
+        Section section = sectionService.getProxySectionById(sectionId);
+        Board board = section.getBoard();
+
+        Map<Long, User> assigneesById = findBulkAssignees(sectionId, items);
+        Map<Long, Label> labelsById = findBulkLabels(board.getId(), items);
+
+        taskRepository.lockSection(sectionId);
+        String position = taskRepository.findMaxPositionBySectionId(sectionId);
+        List<Task> tasks = new ArrayList<>(items.size());
+
+        for (BulkTaskItem item : items) {
+            position = TaskRank.after(position);
+            tasks.add(toBulkTask(item, section, position, assigneesById, labelsById));
+        }
+
+        // Published before the chunks clear the persistence context; the activity is still recorded only after commit.
+        activityService.publish(board, TASK_CREATED,
+                "Created %d tasks in section %s".formatted(tasks.size(), section.getName()));
+
+        taskRepository.persistInChunks(tasks, appProperties.getTask().getBulkChunkSize());
+
+        List<Long> taskIds = tasks.stream()
+                .map(Task::getId)
+                .toList();
+
+        return new BulkCreateTasksResponse(taskIds.size(), taskIds);
+    }
+
     @Override
     @Transactional
     @PreAuthorize("@resourceAccessService.canEditTask(#taskId, principal.id)")
@@ -160,6 +246,7 @@ public class TaskServiceImpl implements TaskService {
                 .toList();
 
         taskRepository.delete(task);
+        resourceHierarchyCache.invalidate(ResourceType.TASK, List.of(taskId));
 
         activityService.publish(board, TASK_DELETED, "Deleted task %s".formatted(task.getTitle()));
         resourceCleanupService.cleanupFiles(filePaths);
@@ -201,49 +288,21 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new ObjectNotFoundException("Task with id %d not found".formatted(taskId)));
 
         Long sectionId = moveTaskRequest.sectionId();
-        Task prev = null;
-        Task next = null;
 
-        if (moveTaskRequest.prevTaskId() != null) {
-            prev = taskRepository.findByIdAndSectionId(moveTaskRequest.prevTaskId(), sectionId)
-                    .orElseThrow(() -> new TaskMoveException(
-                            "Previous task %d does not exist in target section".formatted(moveTaskRequest.prevTaskId())
-                    ));
-        }
-        if (moveTaskRequest.nextTaskId() != null) {
-            next = taskRepository.findByIdAndSectionId(moveTaskRequest.nextTaskId(), sectionId)
-                    .orElseThrow(() -> new TaskMoveException(
-                            "Next task %d does not exist in target section".formatted(moveTaskRequest.nextTaskId())
-                    ));
-        }
+        taskRepository.lockSection(sectionId);
+        TaskPosition prev = findNeighbour(moveTaskRequest.prevTaskId(), sectionId, "Previous");
+        TaskPosition next = findNeighbour(moveTaskRequest.nextTaskId(), sectionId, "Next");
 
-        if (prev != null && next != null && prev.getId().equals(next.getId())) {
+        if (prev != null && next != null && prev.id().equals(next.id())) {
             throw new TaskMoveException("Previous and next tasks cannot be the same");
         }
-        if ((prev != null && task.getId().equals(prev.getId())) ||
-                (next != null && task.getId().equals(next.getId()))) {
+        if ((prev != null && task.getId().equals(prev.id())) ||
+                (next != null && task.getId().equals(next.id()))) {
             throw new TaskMoveException("Cannot move relative to itself");
         }
 
-        double positionStep = appProperties.getTask().getPositionStep();
-        double newPosition;
-
-        if (prev == null && next == null) {
-            newPosition = positionStep;
-        } else if (prev == null) {
-            newPosition = next.getPosition() - positionStep;
-        } else if (next == null) {
-            newPosition = prev.getPosition() + positionStep;
-        } else {
-            if (Math.abs(prev.getPosition() - next.getPosition()) < 0.00001) {
-                reindexSection(sectionId);
-
-                prev = taskRepository.findById(moveTaskRequest.prevTaskId()).orElseThrow();
-                next = taskRepository.findById(moveTaskRequest.nextTaskId()).orElseThrow();
-            }
-
-            newPosition = (next.getPosition() + prev.getPosition()) / 2;
-        }
+        DropGap gap = resolveDropGap(sectionId, prev, next, List.of(taskId));
+        String newPosition = TaskRank.between(gap.lower(), gap.upper());
 
         Section oldSection = task.getSection();
         Board board = oldSection.getBoard();
@@ -252,8 +311,10 @@ public class TaskServiceImpl implements TaskService {
         task.setSection(sectionService.getProxySectionById(sectionId));
 
         Task movedTask = taskRepository.save(task);
+        sectionRebalanceService.requestRebalanceIfNeeded(sectionId, newPosition);
 
         if (!oldSection.getId().equals(sectionId)) {
+            resourceHierarchyCache.invalidate(ResourceType.TASK, List.of(taskId));
             activityService.publish(board, TASK_MOVED,
                     "Moved task from section %s to %s".formatted(oldSection.getName(), movedTask.getSection().getName()));
         }
@@ -261,6 +322,112 @@ public class TaskServiceImpl implements TaskService {
         return taskPreviewResponseMapper.toDto(movedTask, loadAssignees(task));
     }
 
+    @Override
+    @Transactional
+    @PreAuthorize("""
+            @resourceAccessService.canEditTasks(#moveTasksRequest.taskIds(), principal.id) &&
+            @resourceAccessService.canEditSection(#moveTasksRequest.sectionId(), principal.id)
+            """)
+    public List<TaskPreviewResponse> moveTasks(MoveTasksRequest moveTasksRequest) {
+        List<Long> taskIds = moveTasksRequest.taskIds();
+        Long sectionId = moveTasksRequest.sectionId();
+
+        if (new HashSet<>(taskIds).size() != taskIds.size()) {
+            throw new TaskMoveException("Task ids must be unique");
+        }
+        if (isAmong(moveTasksRequest.prevTaskId(), taskIds) || isAmong(moveTasksRequest.nextTaskId(), taskIds)) {
+            throw new TaskMoveException("Cannot move tasks relative to one of the moved tasks");
+        }
+
+        List<TaskMoveProjection> tasks = taskRepository.findMoveProjectionsByIdIn(taskIds);
+
+        if (tasks.size() != taskIds.size()) {
+            throw new ObjectNotFoundException("Some of the tasks %s not found".formatted(taskIds));
+        }
+
+        Section targetSection = sectionService.getProxySectionById(sectionId);
+        Board board = targetSection.getBoard();
+
+        if (tasks.stream().anyMatch(task -> !task.boardId().equals(board.getId()))) {
+            throw new CrossBoardOperationException("Tasks and target section must belong to the same board");
+        }
+
+        taskRepository.lockSection(sectionId);
+        TaskPosition prev = findNeighbour(moveTasksRequest.prevTaskId(), sectionId, "Previous");
+        TaskPosition next = findNeighbour(moveTasksRequest.nextTaskId(), sectionId, "Next");
+
+        DropGap gap = resolveDropGap(sectionId, prev, next, taskIds);
+        List<String> positions = TaskRank.spread(gap.lower(), gap.upper(), taskIds.size());
+        Map<Long, String> positionsById = new LinkedHashMap<>();
+
+        for (int i = 0; i < taskIds.size(); i++) {
+            positionsById.put(taskIds.get(i), positions.get(i));
+        }
+
+        taskRepository.moveToSection(sectionId, positionsById, LocalDateTime.now());
+        sectionRebalanceService.requestRebalanceIfNeeded(sectionId, positions.getLast());
+
+        long movedFromOtherSections = tasks.stream()
+                .filter(task -> !task.sectionId().equals(sectionId))
+                .count();
+
+        if (movedFromOtherSections > 0) {
+            activityService.publish(board, TASK_MOVED,
+                    "Moved %d tasks to section %s".formatted(movedFromOtherSections, targetSection.getName()));
+        }
+
+        return toPreviewsWithLabels(fetchWithLabels(taskIds));
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@resourceAccessService.canEditTasks(#bulkTaskOperationRequest.taskIds(), principal.id)")
+    public BulkTaskOperationResponse applyBulkOperation(BulkTaskOperationRequest bulkTaskOperationRequest) {
+        Set<Long> taskIds = bulkTaskOperationRequest.taskIds();
+        BulkTaskOperation operation = bulkTaskOperationRequest.operation();
+
+        List<TaskMoveProjection> tasks = taskRepository.findMoveProjectionsByIdIn(taskIds);
+
+        if (tasks.size() != taskIds.size()) {
+            throw new ObjectNotFoundException("Some of the tasks %s not found".formatted(taskIds));
+        }
+        if (tasks.stream().map(TaskMoveProjection::boardId).distinct().count() > 1) {
+            throw new CrossBoardOperationException("Tasks must belong to the same board");
+        }
+
+        Long sectionId = tasks.getFirst().sectionId();
+        Board board = sectionService.getProxySectionById(sectionId).getBoard();
+
+        Label label = switch (operation) {
+            case ADD_LABEL, REMOVE_LABEL -> findBoardLabel(bulkTaskOperationRequest.labelId(), board);
+            default -> null;
+        };
+        Set<Long> userIds = switch (operation) {
+            case ASSIGN -> findBoardMembers(sectionId, requireUserIds(bulkTaskOperationRequest.userIds()))
+                    .stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+            case UNASSIGN -> requireUserIds(bulkTaskOperationRequest.userIds());
+            default -> Set.of();
+        };
+
+        int affected = switch (operation) {
+            case COMPLETE -> taskRepository.updateCompletedByIdIn(taskIds, true, LocalDateTime.now());
+            case REOPEN -> taskRepository.updateCompletedByIdIn(taskIds, false, LocalDateTime.now());
+            case ADD_LABEL -> addLabelToTasks(taskIds, label);
+            case REMOVE_LABEL -> taskRepository.removeLabelFromTasks(taskIds, label.getId());
+            case ASSIGN -> addAssigneesToTasks(taskIds, userIds);
+            case UNASSIGN -> taskRepository.removeAssigneesFromTasks(taskIds, userIds);
+            case DELETE -> deleteTasks(taskIds);
+        };
+
+        if (affected > 0) {
+            activityService.publish(board, toActivityType(operation), describeBulkOperation(operation, affected, label));
+        }
+
+        return new BulkTaskOperationResponse(operation, affected);
+    }
+
     @Override
     @Transactional
     @PreAuthorize("""
@@ -321,18 +488,227 @@ public class TaskServiceImpl implements TaskService {
         return taskPreviewResponseMapper.toDto(task, loadAssignees(task));
     }
 
-    private void reindexSection(Long sectionId) {
-        List<Task> tasks = taskRepository.findAllBySectionIdOrderByPositionAsc(sectionId);
+    private Label findBoardLabel(Long labelId, Board board) {
+        if (labelId == null) {
+            throw new BulkOperationException("Label id is required for label operations");
+        }
+
+        Label label = labelService.getLabelById(labelId);
+
+        if (!label.getBoard().getId().equals(board.getId())) {
+            throw new CrossBoardOperationException("Tasks and label must belong to the same board");
+        }
+
+        return label;
+    }
+
+    private Set<Long> requireUserIds(Set<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BulkOperationException("User ids are required for assignee operations");
+        }
 
-        double positionStep = appProperties.getTask().getPositionStep();
-        double position = positionStep;
+        return userIds;
+    }
 
-        for (Task task : tasks) {
-            task.setPosition(position);
-            position += positionStep;
+    private int addLabelToTasks(Set<Long> taskIds, Label label) {
+        int maxLabelsPerTask = appProperties.getLabel().getMaxPerTask();
+
+        if (taskRepository.countTasksAtLabelLimit(taskIds, label.getId(), maxLabelsPerTask) > 0) {
+            throw new LabelLimitExceededException("Task cannot contain more than %d labels".formatted(maxLabelsPerTask));
         }
 
-        taskRepository.saveAll(tasks);
+        return taskRepository.addLabelToTasks(taskIds, label.getId());
+    }
+
+    private int addAssigneesToTasks(Set<Long> taskIds, Set<Long> userIds) {
+        int maxAssignees = appProperties.getTask().getMaxAssignees();
+
+        if (taskRepository.countTasksOverAssigneeLimit(taskIds, userIds, maxAssignees) > 0) {
+            throw new AssigneeLimitExceededException("Task cannot have more than %d assignees".formatted(maxAssignees));
+        }
+
+        return taskRepository.addAssigneesToTasks(taskIds, userIds);
+    }
+
+    private int deleteTasks(Set<Long> taskIds) {
+        List<String> filePaths = taskAttachmentRepository.findAllFilePathByTaskIdIn(taskIds);
+        int deleted = taskRepository.deleteAllByIdIn(taskIds);
+        resourceHierarchyCache.invalidate(ResourceType.TASK, taskIds);
+
+        resourceCleanupService.cleanupFiles(filePaths);
+
+        return deleted;
+    }
+
+    private ActivityType toActivityType(BulkTaskOperation operation) {
+        return switch (operation) {
+            case COMPLETE -> TASK_COMPLETED;
+            case REOPEN -> TASK_REOPENED;
+            case ADD_LABEL -> TASK_LABEL_ADDED;
+            case REMOVE_LABEL -> TASK_LABEL_DELETED;
+            case ASSIGN, UNASSIGN -> TASK_UPDATED;
+            case DELETE -> TASK_DELETED;
+        };
+    }
+
+    private String describeBulkOperation(BulkTaskOperation operation, int affected, Label label) {
+        return switch (operation) {
+            case COMPLETE -> "Completed %d tasks".formatted(affected);
+            case REOPEN -> "Reopened %d tasks".formatted(affected);
+            case ADD_LABEL -> "Added label %s to %d tasks".formatted(label.getName(), affected);
+            case REMOVE_LABEL -> "Removed label %s from %d tasks".formatted(label.getName(), affected);
+            case ASSIGN -> "Added %d task assignments".formatted(affected);
+            case UNASSIGN -> "Removed %d task assignments".formatted(affected);
+            case DELETE -> "Deleted %d tasks".formatted(affected);
+        };
+    }
+
+    private boolean isAmong(Long taskId, List<Long> taskIds) {
+        return taskId != null && taskIds.contains(taskId);
+    }
+
+    private TaskPosition findNeighbour(Long taskId, Long sectionId, String role) {
+        if (taskId == null) return null;
+
+        return taskRepository.findByIdAndSectionId(taskId, sectionId)
+                .map(task -> new TaskPosition(task.getId(), task.getPosition()))
+                .orElseThrow(() -> new TaskMoveException(
+                        "%s task %d does not exist in target section".formatted(role, taskId)
+                ));
+    }
+
+    /**
+     * Resolves the keys a drop lands between from the locked section rather than from the client's view: prev is
+     * paired with its actual successor, next with its actual predecessor, and a drop without neighbours goes on top.
+     * A stale pair with tasks in between therefore can't produce a key another task already holds. Moved tasks are
+     * skipped, and neighbours sharing a key are spread first.
+     */
+    private DropGap resolveDropGap(Long sectionId, TaskPosition prev, TaskPosition next, Collection<Long> movedIds) {
+        if (prev != null && next != null && TASK_POSITION_ORDER.compare(prev, next) >= 0) {
+            throw new TaskMoveException("Previous task must be placed before next task");
+        }
+
+        TaskPosition lower = prev;
+        TaskPosition upper = next;
+
+        if (prev != null || next == null) {
+            upper = taskRepository.findNextPosition(sectionId, prev, movedIds).orElse(null);
+        } else {
+            lower = taskRepository.findPreviousPosition(sectionId, next, movedIds).orElse(null);
+        }
+
+        if (lower == null || upper == null) {
+            return new DropGap(lower != null ? lower.position() : null, upper != null ? upper.position() : null);
+        }
+        if (lower.position().equals(upper.position())) {
+            Map<Long, String> spread = sectionRebalanceService.spreadTiedPositions(sectionId, lower.position());
+            return new DropGap(spread.get(lower.id()), spread.get(upper.id()));
+        }
+        return new DropGap(lower.position(), upper.position());
+    }
+
+    private record DropGap(String lower, String upper) {
+    }
+
+    private Page<TaskSearchResponse> findRankedTasks(Long boardId, TaskFilter taskFilter, Pageable pageable) {
+        String tsQuery = TsQueryBuilder.toPrefixQuery(taskFilter.query());
+
+        if (tsQuery == null) return Page.empty(pageable);
+
+        long total = taskRepository.countFullTextMatches(boardId, tsQuery, taskFilter);
+
+        if (total == 0) return Page.empty(pageable);
+
+        List<TaskSearchHit> hits = taskRepository.findFullTextMatches(
+                boardId, tsQuery, taskFilter, pageable.getPageSize(), pageable.getOffset());
+
+        List<Task> tasks = fetchWithLabels(hits.stream()
+                .map(TaskSearchHit::id)
+                .toList());
+        Map<Long, TaskPreviewResponse> previewsById = toPreviewsWithLabels(tasks).stream()
+                .collect(Collectors.toMap(TaskPreviewResponse::id, Function.identity()));
+
+        List<TaskSearchResponse> content = hits.stream()
+                .filter(hit -> previewsById.containsKey(hit.id()))
+                .map(hit -> new TaskSearchResponse(
+                        previewsById.get(hit.id()),
+                        hit.rank(),
+                        hit.titleHighlight(),
+                        hit.descriptionHighlight())
+                )
+                .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private Specification<Task> buildSearchSpecification(Long boardId, TaskFilter taskFilter) {
+        return Specification.where(TaskSpecification.hasBoardId(boardId))
+                .and(TaskSpecification.hasSectionId(taskFilter.sectionId()))
+                .and(TaskSpecification.hasTitle(taskFilter.title()))
+                .and(TaskSpecification.hasCompleted(taskFilter.completed()))
+                .and(TaskSpecification.hasLabels(taskFilter.labelIds()))
+                .and(TaskSpecification.hasAssignees(taskFilter.assigneeIds()))
+                .and(TaskSpecification.hasDueDate(taskFilter.dueDateFrom(), taskFilter.dueDateTo()))
+                .and(TaskSpecification.hasCreatedBetween(taskFilter.createdFrom(), taskFilter.createdTo()));
+    }
+
+    private Page<TaskPreviewResponse> toPreviewPage(Page<Task> tasks) {
+        return new PageImpl<>(toPreviews(tasks.getContent()), tasks.getPageable(), tasks.getTotalElements());
+    }
+
+    private List<TaskPreviewResponse> toPreviews(List<Task> tasks) {
+        return toPreviewsWithLabels(fetchLabels(tasks));
+    }
+
+    private List<TaskPreviewResponse> toPreviewsWithLabels(List<Task> tasksWithLabels) {
+        Map<Long, List<UserShortResponse>> assigneesByTaskId = loadAssigneesBatch(tasksWithLabels);
+
+        return tasksWithLabels.stream()
+                .map(task -> taskPreviewResponseMapper.toDto(
+                        task, assigneesByTaskId.getOrDefault(task.getId(), List.of()))
+                )
+                .toList();
+    }
+
+    private int resolveScrollSize(TaskCursorRequest taskCursorRequest) {
+        return Optional.ofNullable(taskCursorRequest.size())
+                .orElse(DEFAULT_SCROLL_SIZE);
+    }
+
+    private TaskSliceResponse buildSlice(List<Task> tasks, int size, Function<Task, Object> sortKeyExtractor) {
+        boolean hasNext = tasks.size() > size;
+        List<Task> content = hasNext ? tasks.subList(0, size) : tasks;
+
+        List<TaskPreviewResponse> previews = toPreviews(content);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = content.getLast();
+            nextCursor = TaskCursorCodec.encode(sortKeyExtractor.apply(last), last.getId());
+        }
+
+        return new TaskSliceResponse(previews, size, hasNext, nextCursor);
+    }
+
+    private List<Task> fetchLabels(List<Task> tasks) {
+        if (tasks.isEmpty()) return tasks;
+
+        return fetchWithLabels(tasks.stream()
+                .map(Task::getId)
+                .toList());
+    }
+
+    private List<Task> fetchWithLabels(List<Long> taskIds) {
+        if (taskIds.isEmpty()) return List.of();
+
+        Map<Long, Task> tasksById = taskRepository.findAllWithLabelsByIdIn(taskIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        return taskIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private void assignUsersToTask(Long sectionId, Set<Long> assigneeIds, Task task) {
@@ -341,6 +717,10 @@ public class TaskServiceImpl implements TaskService {
             return;
         }
 
+        task.setAssignees(findBoardMembers(sectionId, assigneeIds));
+    }
+
+    private Set<User> findBoardMembers(Long sectionId, Set<Long> assigneeIds) {
         Set<User> assignees = userService.getBoardMembersForTask(sectionId, assigneeIds);
 
         Set<Long> foundIds = assignees.stream()
@@ -355,7 +735,70 @@ public class TaskServiceImpl implements TaskService {
             throw new InvalidTaskAssigneeException("Users with id %s are not members of the board".formatted(invalidIds));
         }
 
-        task.setAssignees(assignees);
+        return assignees;
+    }
+
+    private Map<Long, User> findBulkAssignees(Long sectionId, List<BulkTaskItem> items) {
+        Set<Long> assigneeIds = collectIds(items, BulkTaskItem::assigneeIds);
+
+        if (assigneeIds.isEmpty()) return Map.of();
+
+        return findBoardMembers(sectionId, assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Map<Long, Label> findBulkLabels(Long boardId, List<BulkTaskItem> items) {
+        int maxLabelsPerTask = appProperties.getLabel().getMaxPerTask();
+
+        if (items.stream().anyMatch(item -> item.labelIds() != null && item.labelIds().size() > maxLabelsPerTask)) {
+            throw new LabelLimitExceededException("Task cannot contain more than %d labels".formatted(maxLabelsPerTask));
+        }
+
+        Set<Long> labelIds = collectIds(items, BulkTaskItem::labelIds);
+
+        if (labelIds.isEmpty()) return Map.of();
+
+        Map<Long, Label> labelsById = labelService.getBoardLabelsByIds(boardId, labelIds)
+                .stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+
+        List<Long> missingIds = labelIds.stream()
+                .filter(id -> !labelsById.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new ObjectNotFoundException("Labels with id %s not found on the board".formatted(missingIds));
+        }
+
+        return labelsById;
+    }
+
+    private Set<Long> collectIds(List<BulkTaskItem> items, Function<BulkTaskItem, Set<Long>> idsExtractor) {
+        return items.stream()
+                .map(idsExtractor)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+    }
+
+    private Task toBulkTask(BulkTaskItem item, Section section, String position,
+                            Map<Long, User> assigneesById, Map<Long, Label> labelsById) {
+        Task task = new Task();
+        task.setTitle(item.title());
+        task.setDescription(item.description());
+        task.setDueDate(item.dueDate());
+        task.setIsCompleted(false);
+        task.setPosition(position);
+        task.setSection(section);
+
+        if (item.assigneeIds() != null) {
+            item.assigneeIds().forEach(id -> task.getAssignees().add(assigneesById.get(id)));
+        }
+        if (item.labelIds() != null) {
+            item.labelIds().forEach(id -> task.getLabels().add(labelsById.get(id)));
+        }
+
+        return task;
     }
 
     private List<UserShortResponse> loadAssignees(Task task) {
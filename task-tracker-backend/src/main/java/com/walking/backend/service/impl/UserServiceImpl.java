@@ -1,5 +1,6 @@
 package com.walking.backend.service.impl;
 
+import com.walking.backend.cache.TwoTierCacheManager;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
 import com.walking.backend.domain.dto.user.*;
 import com.walking.backend.domain.exception.DuplicateException;
@@ -7,6 +8,7 @@ import com.walking.backend.domain.exception.InvalidFileException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.User;
 import com.walking.backend.domain.model.UserProfile;
+import com.walking.backend.domain.projection.TaskAssigneeId;
 import com.walking.backend.domain.projection.TaskAssigneeProjection;
 import com.walking.backend.props.CacheNames;
 import com.walking.backend.repository.UserProfileRepository;
@@ -16,6 +18,7 @@ import com.walking.backend.service.mapper.user.SignUpRequestMapper;
 import com.walking.backend.service.mapper.user.UserProfileResponseMapper;
 import com.walking.backend.service.mapper.user.UserResponseMapper;
 import com.walking.backend.storage.service.FileStorageService;
+import com.walking.backend.util.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -31,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,11 +48,12 @@ public class UserServiceImpl implements UserService {
     private final UserResponseMapper userResponseMapper;
     private final SignUpRequestMapper signUpRequestMapper;
     private final UserProfileResponseMapper userProfileResponseMapper;
+    private final TwoTierCacheManager cacheManager;
 
     @Override
     @PreAuthorize("@resourceAccessService.canViewBoard(#boardId, principal.id)")
     public Page<UserSearchResponse> searchUsersToInvite(Long boardId, String query, Pageable pageable) {
-        return userRepository.searchUsersByQueryAndExcludeBoardMembers(query, boardId, pageable);
+        return userRepository.searchUsersByQueryAndExcludeBoardMembers(LikePatterns.startsWith(query), boardId, pageable);
     }
 
     @Override
@@ -76,7 +81,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<UserShortResponse> getUserShortsByIds(Set<Long> userIds) {
-        return userProfileRepository.findUserShortsByIds(userIds);
+        return List.copyOf(loadUserShorts(userIds).values());
     }
 
     @Override
@@ -87,16 +92,24 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Map<Long, List<UserShortResponse>> getAssigneeByTaskIds(Set<Long> taskIds) {
-        return userProfileRepository.findAssigneeProjectionByTaskIds(taskIds)
-                .stream()
+        List<TaskAssigneeId> assignees = userProfileRepository.findAssigneeIdsByTaskIds(taskIds);
+
+        if (assignees.isEmpty()) return Map.of();
+
+        Map<Long, UserShortResponse> usersById = loadUserShorts(assignees.stream()
+                .map(TaskAssigneeId::userId)
+                .collect(Collectors.toSet()));
+
+        return assignees.stream()
+                .filter(assignee -> usersById.containsKey(assignee.userId()))
                 .collect(Collectors.groupingBy(
-                                TaskAssigneeProjection::taskId,
-                                Collectors.mapping(
-                                        p ->
-                                                new UserShortResponse(p.userId(), p.username(), p.displayName(), p.avatarUrl()),
-                                        Collectors.toList())
-                        )
-                );
+                        TaskAssigneeId::taskId,
+                        Collectors.mapping(assignee -> usersById.get(assignee.userId()), Collectors.toList())));
+    }
+
+    @Override
+    public Map<Long, List<UserShortResponse>> getAssigneeByBoardId(Long boardId) {
+        return groupAssigneesByTaskId(userProfileRepository.findAssigneeProjectionByBoardId(boardId));
     }
 
     @Override
@@ -124,7 +137,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.USER_PUBLIC_PROFILE, key = "#userId")
+    @Cacheable(value = CacheNames.USER_PUBLIC_PROFILE, key = "#userId", sync = true)
     public UserPublicProfileResponse getUserProfileById(Long userId) {
         return userProfileRepository.findUserPublicProfileByUserId(userId)
                 .orElseThrow(() -> new ObjectNotFoundException("User with id %d not found".formatted(userId)));
@@ -196,4 +209,28 @@ public class UserServiceImpl implements UserService {
             userProfileRepository.save(userProfile);
         }
     }
+
+    /**
+     * Serves the ids from the short profile cache and queries the database only for the misses.
+     */
+    private Map<Long, UserShortResponse> loadUserShorts(Set<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+
+        return cacheManager.getCache(CacheNames.USER_SHORT_PROFILE).getAll(userIds, missingIds ->
+                userProfileRepository.findUserShortsByIds(missingIds)
+                        .stream()
+                        .collect(Collectors.toMap(UserShortResponse::id, Function.identity())));
+    }
+
+    private Map<Long, List<UserShortResponse>> groupAssigneesByTaskId(List<TaskAssigneeProjection> projections) {
+        return projections.stream()
+                .collect(Collectors.groupingBy(
+                                TaskAssigneeProjection::taskId,
+                                Collectors.mapping(
+                                        p ->
+                                                new UserShortResponse(p.userId(), p.username(), p.displayName(), p.avatarUrl()),
+                                        Collectors.toList())
+                        )
+                );
+    }
 }
@@ -1,8 +1,10 @@
 package com.walking.backend.service.mapper.task;
 
+import com.walking.backend.domain.dto.label.LabelResponse;
 import com.walking.backend.domain.dto.task.TaskPreviewResponse;
 import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.model.Task;
+import com.walking.backend.domain.projection.TaskPreviewProjection;
 import com.walking.backend.service.mapper.label.LabelResponseMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -17,4 +19,15 @@ public interface TaskPreviewResponseMapper {
     @Mapping(target = "labels", source = "task.labels")
     @Mapping(target = "assignees", source = "assignees")
     TaskPreviewResponse toDto(Task task, List<UserShortResponse> assignees);
+
+    @Mapping(target = "id", source = "task.id")
+    @Mapping(target = "title", source = "task.title")
+    @Mapping(target = "isCompleted", source = "task.isCompleted")
+    @Mapping(target = "dueDate", source = "task.dueDate")
+    @Mapping(target = "sectionId", source = "task.sectionId")
+    @Mapping(target = "created", source = "task.created")
+    @Mapping(target = "updated", source = "task.updated")
+    @Mapping(target = "labels", source = "labels")
+    @Mapping(target = "assignees", source = "assignees")
+    TaskPreviewResponse toDto(TaskPreviewProjection task, List<LabelResponse> labels, List<UserShortResponse> assignees);
 }
@@ -0,0 +1,23 @@
+package com.walking.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class LikePatterns {
+    public static final char ESCAPE = '\\';
+
+    public String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+
+    public String startsWith(String value) {
+        return escape(value) + "%";
+    }
+
+    private String escape(String value) {
+        return value.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,44 @@
+package com.walking.backend.util;
+
+import com.walking.backend.domain.dto.task.TaskCursor;
+import com.walking.backend.domain.exception.InvalidCursorException;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+@UtilityClass
+public class TaskCursorCodec {
+    private static final char DELIMITER = '|';
+
+    public String encode(Object sortKey, Long id) {
+        String raw = String.valueOf(sortKey) + DELIMITER + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public <T> TaskCursor<T> decode(String cursor, Function<String, T> sortKeyParser) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+
+            if (delimiterIndex <= 0) {
+                throw new InvalidCursorException("Cursor %s is malformed".formatted(cursor));
+            }
+
+            T sortKey = sortKeyParser.apply(raw.substring(0, delimiterIndex));
+            Long id = Long.valueOf(raw.substring(delimiterIndex + 1));
+
+            return new TaskCursor<>(sortKey, id);
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Cursor %s is malformed".formatted(cursor));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.walking.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Variable-length base-36 ordering keys for tasks inside a section.
+ * <p>
+ * A key is read as the fraction {@code 0.<digits>} and compared byte-wise (the column uses the "C" collation).
+ * Keys never end with {@code '0'}, so a key can always be generated before or between any two existing keys
+ * without touching other rows.
+ */
+@UtilityClass
+public class TaskRank {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int STEP_WIDTH = 6;
+    private static final String INITIAL = "i";
+
+    public String initial() {
+        return INITIAL;
+    }
+
+    public String after(String rank) {
+        if (rank == null) return INITIAL;
+
+        String stepped = step(rank, 1);
+
+        return stepped != null ? stepped : midpoint(rank, null);
+    }
+
+    public String before(String rank) {
+        if (rank == null) return INITIAL;
+
+        String stepped = step(rank, -1);
+
+        return stepped != null ? stepped : midpoint("", rank);
+    }
+
+    public String between(String prev, String next) {
+        if (prev == null) return before(next);
+        if (next == null) return after(prev);
+
+        if (prev.compareTo(next) >= 0) {
+            throw new IllegalArgumentException("Rank %s must be lower than %s".formatted(prev, next));
+        }
+
+        return midpoint(prev, next);
+    }
+
+    /**
+     * Returns {@code count} evenly spaced keys strictly between the bounds, using the shortest width that fits them.
+     */
+    public List<String> spread(String lower, String upper, int count) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank %s must be lower than %s".formatted(lower, upper));
+        }
+
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        int width = 1;
+        BigInteger low = ceilUnits(lower, width);
+        BigInteger high = floorUnits(upper, width);
+
+        while (high.subtract(low).compareTo(slots) < 0) {
+            width++;
+            low = ceilUnits(lower, width);
+            high = floorUnits(upper, width);
+        }
+
+        BigInteger gap = high.subtract(low);
+        List<String> ranks = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            BigInteger units = low.add(gap.multiply(BigInteger.valueOf(i)).divide(slots));
+            ranks.add(fromUnits(units, width));
+        }
+
+        return ranks;
+    }
+
+    /**
+     * Moves the key by one unit of its sixth digit, which keeps appends and prepends short.
+     * Returns {@code null} when the step runs out of room and the caller has to bisect instead.
+     */
+    private String step(String rank, int delta) {
+        char[] digits = new char[STEP_WIDTH];
+
+        for (int i = 0; i < STEP_WIDTH; i++) {
+            digits[i] = i < rank.length() ? rank.charAt(i) : DIGITS.charAt(0);
+        }
+
+        if (delta < 0 && rank.length() > STEP_WIDTH) {
+            String truncated = stripTrailingZeros(new String(digits));
+            return truncated.isEmpty() ? null : truncated;
+        }
+
+        for (int i = STEP_WIDTH - 1; i >= 0; i--) {
+            int value = digitOf(digits[i]) + delta;
+
+            if (value >= 0 && value < BASE) {
+                digits[i] = DIGITS.charAt(value);
+
+                String stepped = stripTrailingZeros(new String(digits));
+                return stepped.isEmpty() ? null : stepped;
+            }
+
+            digits[i] = DIGITS.charAt(delta > 0 ? 0 : BASE - 1);
+        }
+
+        return null;
+    }
+
+    private String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int prefix = 0;
+
+            while (prefix < upper.length() && charOrZero(lower, prefix) == upper.charAt(prefix)) {
+                prefix++;
+            }
+
+            if (prefix > 0) {
+                return upper.substring(0, prefix) +
+                        midpoint(lower.length() > prefix ? lower.substring(prefix) : "", upper.substring(prefix));
+            }
+        }
+
+        int lowerDigit = lower.isEmpty() ? 0 : digitOf(lower.charAt(0));
+        int upperDigit = upper != null ? digitOf(upper.charAt(0)) : BASE;
+
+        if (upperDigit - lowerDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+        }
+
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+
+        return DIGITS.charAt(lowerDigit) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private BigInteger ceilUnits(String rank, int width) {
+        if (rank == null) return BigInteger.ZERO;
+
+        BigInteger units = toUnits(rank, width);
+
+        return rank.length() > width ? units.add(BigInteger.ONE) : units;
+    }
+
+    private BigInteger floorUnits(String rank, int width) {
+        if (rank == null) return BigInteger.valueOf(BASE).pow(width);
+
+        return toUnits(rank, width);
+    }
+
+    private BigInteger toUnits(String rank, int width) {
+        BigInteger units = BigInteger.ZERO;
+
+        for (int i = 0; i < width; i++) {
+            units = units.multiply(BigInteger.valueOf(BASE)).add(BigInteger.valueOf(digitOf(charOrZero(rank, i))));
+        }
+
+        return units;
+    }
+
+    private String fromUnits(BigInteger units, int width) {
+        String digits = units.toString(BASE);
+
+        return stripTrailingZeros("0".repeat(width - digits.length()) + digits);
+    }
+
+    private char charOrZero(String value, int index) {
+        return index < value.length() ? value.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private int digitOf(char digit) {
+        int value = DIGITS.indexOf(digit);
+
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid rank digit '%s'".formatted(digit));
+        }
+
+        return value;
+    }
+
+    private String stripTrailingZeros(String value) {
+        int end = value.length();
+
+        while (end > 0 && value.charAt(end - 1) == DIGITS.charAt(0)) {
+            end--;
+        }
+
+        return value.substring(0, end);
+    }
+}
@@ -0,0 +1,24 @@
+package com.walking.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class TsQueryBuilder {
+    private static final String NON_WORD_CHARACTERS = "[^\\p{L}\\p{N}]+";
+    private static final int MAX_TERMS = 10;
+
+    public String toPrefixQuery(String query) {
+        if (query == null || query.isBlank()) return null;
+
+        String tsQuery = Arrays.stream(query.split(NON_WORD_CHARACTERS))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term.toLowerCase() + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+}
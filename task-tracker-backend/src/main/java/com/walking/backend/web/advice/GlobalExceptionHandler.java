@@ -2,6 +2,7 @@ package com.walking.backend.web.advice;
 
 import com.walking.backend.domain.dto.error.ErrorResponse;
 import com.walking.backend.domain.exception.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +35,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getMessage(), HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTooManyRequestsException(TooManyRequestsException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(DuplicateException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handleDuplicationException(DuplicateException e) {
@@ -52,6 +59,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(AssigneeLimitExceededException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleAssigneeLimitExceededException(AssigneeLimitExceededException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(CrossBoardOperationException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handleCrossBoardOperationException(CrossBoardOperationException e) {
@@ -64,6 +77,18 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        return buildErrorResponse("Request conflicts with a concurrent change, please retry", HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BulkOperationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleBulkOperationException(BulkOperationException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(IllegalOperationException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorResponse handleIllegalOperationException(IllegalOperationException e) {
@@ -88,6 +113,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     private ErrorResponse buildErrorResponse(String message, HttpStatus status) {
         return new ErrorResponse(status.value(), status.getReasonPhrase(), message, LocalDateTime.now());
     }
@@ -1,17 +1,22 @@
 package com.walking.backend.web.controller;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
+import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.AuthService;
 import com.walking.backend.web.openapi.AuthApi;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -39,6 +44,26 @@ public class AuthController implements AuthApi {
         return authService.refreshToken(refreshToken, response);
     }
 
+    @GetMapping("/sessions")
+    public List<SessionResponse> getSessions(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return authService.getSessions(userDetails.id());
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(@PathVariable String sessionId,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        authService.revokeSession(userDetails.id(), sessionId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> revokeAllSessions(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        authService.revokeAllSessions(userDetails.id());
+
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/sign-out")
     public ResponseEntity<Void> signOut() {
         // This method is intercepted by Spring Security Logout Filter
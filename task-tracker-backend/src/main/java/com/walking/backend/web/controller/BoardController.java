@@ -2,13 +2,17 @@ package com.walking.backend.web.controller;
 
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
 import com.walking.backend.domain.dto.boardMember.BoardMemberFilter;
 import com.walking.backend.domain.dto.boardMember.BoardMemberRequest;
 import com.walking.backend.domain.dto.boardMember.BoardMemberResponse;
 import com.walking.backend.domain.dto.label.LabelResponse;
 import com.walking.backend.domain.dto.section.SectionResponse;
+import com.walking.backend.domain.dto.task.TaskCursorRequest;
 import com.walking.backend.domain.dto.task.TaskFilter;
 import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.task.TaskSearchResponse;
+import com.walking.backend.domain.dto.task.TaskSliceResponse;
 import com.walking.backend.domain.dto.user.UserSearchFilter;
 import com.walking.backend.domain.dto.user.UserSearchResponse;
 import com.walking.backend.security.principal.CustomUserDetails;
@@ -45,6 +49,11 @@ public class BoardController implements BoardApi {
         return boardService.getBoards(userDetails.id(), pageable);
     }
 
+    @GetMapping("/{boardId}/snapshot")
+    public BoardSnapshotResponse getBoardSnapshot(@PathVariable Long boardId) {
+        return boardService.getBoardSnapshot(boardId);
+    }
+
     @GetMapping("/{boardId}/sections")
     public Page<SectionResponse> getSections(@PathVariable Long boardId, @PageableDefault(30) Pageable pageable) {
         return sectionService.getSections(boardId, pageable);
@@ -63,6 +72,22 @@ public class BoardController implements BoardApi {
         return taskService.searchTasks(boardId, taskFilter, pageable);
     }
 
+    @GetMapping("/{boardId}/tasks/ranked")
+    public Page<TaskSearchResponse> searchTasksRanked(
+            @PathVariable Long boardId,
+            TaskFilter taskFilter,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return taskService.searchTasksRanked(boardId, taskFilter, pageable);
+    }
+
+    @GetMapping("/{boardId}/tasks/scroll")
+    public TaskSliceResponse scrollSearchTasks(
+            @PathVariable Long boardId,
+            TaskFilter taskFilter,
+            @Validated TaskCursorRequest taskCursorRequest) {
+        return taskService.scrollSearchTasks(boardId, taskFilter, taskCursorRequest);
+    }
+
     @PostMapping
     public ResponseEntity<?> createBoard(
             @RequestBody @Validated BoardRequest boardRequest,
@@ -3,7 +3,9 @@ package com.walking.backend.web.controller;
 import com.walking.backend.domain.dto.section.CreateSectionRequest;
 import com.walking.backend.domain.dto.section.SectionResponse;
 import com.walking.backend.domain.dto.section.UpdateSectionRequest;
+import com.walking.backend.domain.dto.task.TaskCursorRequest;
 import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.task.TaskSliceResponse;
 import com.walking.backend.service.SectionService;
 import com.walking.backend.service.TaskService;
 import com.walking.backend.web.openapi.SectionApi;
@@ -29,6 +31,12 @@ public class SectionController implements SectionApi {
         return taskService.getTasks(sectionId, pageable);
     }
 
+    @GetMapping("/{sectionId}/tasks/scroll")
+    public TaskSliceResponse scrollTasks(@PathVariable Long sectionId,
+                                         @Validated TaskCursorRequest taskCursorRequest) {
+        return taskService.scrollTasks(sectionId, taskCursorRequest);
+    }
+
     @PostMapping
     public ResponseEntity<?> createSection(@RequestBody @Validated CreateSectionRequest createSectionRequest) {
         return ResponseEntity.status(HttpStatus.CREATED)
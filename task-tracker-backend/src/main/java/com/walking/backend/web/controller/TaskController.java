@@ -50,6 +50,17 @@ public class TaskController implements TaskApi {
         return taskService.moveTask(taskId, moveTaskRequest);
     }
 
+    @PatchMapping("/move")
+    public List<TaskPreviewResponse> moveTasks(@RequestBody @Validated MoveTasksRequest moveTasksRequest) {
+        return taskService.moveTasks(moveTasksRequest);
+    }
+
+    @PatchMapping("/bulk")
+    public BulkTaskOperationResponse applyBulkOperation(
+            @RequestBody @Validated BulkTaskOperationRequest bulkTaskOperationRequest) {
+        return taskService.applyBulkOperation(bulkTaskOperationRequest);
+    }
+
     @PostMapping("/{taskId}/labels/{labelId}")
     public TaskPreviewResponse addLabelToTask(@PathVariable Long taskId, @PathVariable Long labelId) {
         return taskService.addLabelToTask(taskId, labelId);
@@ -66,6 +77,13 @@ public class TaskController implements TaskApi {
                 .body(taskService.createTask(createTaskRequest));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateTasksResponse> createTasks(
+            @RequestBody @Validated BulkCreateTasksRequest bulkCreateTasksRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(taskService.createTasks(bulkCreateTasksRequest));
+    }
+
     @PutMapping("/{taskId}")
     public TaskFullResponse updateTask(
             @RequestBody @Validated UpdateTaskRequest updateTaskRequest,
@@ -1,11 +1,14 @@
 package com.walking.backend.web.openapi;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
+import com.walking.backend.security.principal.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,10 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @Tag(name = "Authentication", description = "Endpoints for user registration, login, token refresh, and logout")
 public interface AuthApi {
 
@@ -65,6 +71,39 @@ public interface AuthApi {
             @Parameter(hidden = true) HttpServletResponse response
     );
 
+    @Operation(
+            summary = "List active sessions",
+            description = "Returns every device session of the current user that has not expired yet."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SessionResponse.class)))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    List<SessionResponse> getSessions(@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
+
+    @Operation(
+            summary = "Revoke a session",
+            description = "Signs one device out by invalidating the refresh token of its session."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Session revoked"),
+            @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    ResponseEntity<Void> revokeSession(
+            @Parameter(description = "ID of the session") String sessionId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
+    @Operation(
+            summary = "Revoke all sessions",
+            description = "Signs every device of the current user out by invalidating all of their refresh tokens."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "All sessions revoked")
+    })
+    ResponseEntity<Void> revokeAllSessions(@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
+
     @Operation(
             summary = "Sign out user",
             description = "Logs out the user and clears authentication cookies. (Note: Intercepted and handled by Spring Security Logout Filter)"
@@ -2,13 +2,17 @@ package com.walking.backend.web.openapi;
 
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
 import com.walking.backend.domain.dto.boardMember.BoardMemberFilter;
 import com.walking.backend.domain.dto.boardMember.BoardMemberRequest;
 import com.walking.backend.domain.dto.boardMember.BoardMemberResponse;
 import com.walking.backend.domain.dto.label.LabelResponse;
 import com.walking.backend.domain.dto.section.SectionResponse;
+import com.walking.backend.domain.dto.task.TaskCursorRequest;
 import com.walking.backend.domain.dto.task.TaskFilter;
 import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.task.TaskSearchResponse;
+import com.walking.backend.domain.dto.task.TaskSliceResponse;
 import com.walking.backend.domain.dto.user.UserSearchFilter;
 import com.walking.backend.domain.dto.user.UserSearchResponse;
 import com.walking.backend.security.principal.CustomUserDetails;
@@ -42,6 +46,17 @@ public interface BoardApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
+    @Operation(summary = "Get full board snapshot", description = "Retrieves all sections of the board with their ordered task previews, including labels and assignees, in a single call.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Board snapshot retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User has no access to this board"),
+            @ApiResponse(responseCode = "404", description = "Board not found")
+    })
+    BoardSnapshotResponse getBoardSnapshot(
+            @Parameter(description = "ID of the board") Long boardId
+    );
+
     @Operation(summary = "Get all sections for a specific board", description = "Retrieves a paginated list of vertical columns (sections) inside the specified board.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Sections retrieved successfully"),
@@ -64,7 +79,7 @@ public interface BoardApi {
             @Parameter(description = "Optional label name filter") String name
     );
 
-    @Operation(summary = "Search and filter tasks inside a board", description = "Advanced search for tasks using complex criteria like statuses, labels, or assigned members.")
+    @Operation(summary = "Search and filter tasks inside a board", description = "Advanced search for tasks using complex criteria like statuses, labels, or assigned members. When a full-text query is given, results are ordered by relevance and only the section and completion filters apply.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Filtered tasks retrieved successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid filter parameters")
@@ -75,6 +90,28 @@ public interface BoardApi {
             @ParameterObject Pageable pageable
     );
 
+    @Operation(summary = "Full-text search for tasks inside a board", description = "Matches the query words as prefixes against task titles and descriptions, ordered by relevance. Each hit carries highlighted title and description snippets. Supports the section and completion filters.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ranked tasks retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - No access to board")
+    })
+    Page<TaskSearchResponse> searchTasksRanked(
+            @Parameter(description = "ID of the board") Long boardId,
+            @ParameterObject TaskFilter taskFilter,
+            @ParameterObject Pageable pageable
+    );
+
+    @Operation(summary = "Scroll filtered tasks inside a board", description = "Same filters as the task search, ordered by creation date (newest first) and paged with an opaque continuation cursor instead of page numbers.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Filtered tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter parameters, cursor or page size")
+    })
+    TaskSliceResponse scrollSearchTasks(
+            @Parameter(description = "ID of the board") Long boardId,
+            @ParameterObject TaskFilter taskFilter,
+            @ParameterObject @Validated TaskCursorRequest taskCursorRequest
+    );
+
     @Operation(summary = "Create a new board", description = "Creates a brand new workspace. The creating user automatically becomes the Owner.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Board successfully created"),
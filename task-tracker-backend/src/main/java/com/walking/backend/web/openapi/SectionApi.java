@@ -3,7 +3,9 @@ package com.walking.backend.web.openapi;
 import com.walking.backend.domain.dto.section.CreateSectionRequest;
 import com.walking.backend.domain.dto.section.SectionResponse;
 import com.walking.backend.domain.dto.section.UpdateSectionRequest;
+import com.walking.backend.domain.dto.task.TaskCursorRequest;
 import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.task.TaskSliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -38,6 +40,21 @@ public interface SectionApi {
             @ParameterObject Pageable pageable
     );
 
+    @Operation(
+            summary = "Scroll tasks inside a section",
+            description = "Retrieves tasks of a section ordered by position using an opaque continuation cursor. No total count is calculated, so every page costs the same."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskSliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - No access to the parent board")
+    })
+    TaskSliceResponse scrollTasks(
+            @Parameter(description = "ID of the section/column") Long sectionId,
+            @ParameterObject @Validated TaskCursorRequest taskCursorRequest
+    );
+
     @Operation(
             summary = "Create a new section",
             description = "Adds a new vertical column to a board (e.g., 'To Do', 'In Progress', 'Done')."
@@ -70,6 +70,32 @@ public interface TaskApi {
             @RequestBody @Validated MoveTaskRequest moveTaskRequest
     );
 
+    @Operation(
+            summary = "Move several tasks at once",
+            description = "Moves a multi-selection of tasks into a section, keeping the given order and placing them between the optional previous and next tasks. Access is checked once for the whole group."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks successfully moved",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskPreviewResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Duplicate task ids or bad position sequencing"),
+            @ApiResponse(responseCode = "404", description = "One of the tasks not found"),
+            @ApiResponse(responseCode = "409", description = "Tasks belong to another board")
+    })
+    List<TaskPreviewResponse> moveTasks(@RequestBody @Validated MoveTasksRequest moveTasksRequest);
+
+    @Operation(
+            summary = "Apply an operation to several tasks at once",
+            description = "Completes, reopens, labels, assigns or deletes a selection of tasks of one board in a single request. Access is checked once for the whole group and one activity entry is recorded."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Operation successfully applied",
+                    content = @Content(schema = @Schema(implementation = BulkTaskOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing label or user ids, or users outside the board"),
+            @ApiResponse(responseCode = "404", description = "One of the tasks or the label not found"),
+            @ApiResponse(responseCode = "409", description = "Tasks belong to different boards or exceed the label limit")
+    })
+    BulkTaskOperationResponse applyBulkOperation(@RequestBody @Validated BulkTaskOperationRequest bulkTaskOperationRequest);
+
     @Operation(
             summary = "Assign a label to a task",
             description = "Links an existing board label to a specified task for categorization."
@@ -111,6 +137,21 @@ public interface TaskApi {
             @RequestBody @Validated CreateTaskRequest createTaskRequest
     );
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Imports up to 5000 tasks into a section in one call. The tasks are appended in the given order with their assignees and labels, and a single activity entry is recorded."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Tasks successfully created",
+                    content = @Content(schema = @Schema(implementation = BulkCreateTasksResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request attributes payload or assignees outside the board"),
+            @ApiResponse(responseCode = "404", description = "Section or one of the labels not found"),
+            @ApiResponse(responseCode = "409", description = "A task exceeds the label limit")
+    })
+    ResponseEntity<BulkCreateTasksResponse> createTasks(
+            @RequestBody @Validated BulkCreateTasksRequest bulkCreateTasksRequest
+    );
+
     @Operation(
             summary = "Update task fields",
             description = "Modifies complete fields of a task such as its title, description, deadlines, and parameters."
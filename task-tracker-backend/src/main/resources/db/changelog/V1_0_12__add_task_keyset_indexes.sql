@@ -0,0 +1,3 @@
+CREATE INDEX idx_task_section_id_position_id ON task (section_id, position, id);
+
+CREATE INDEX idx_task_created_id ON task (created DESC, id DESC);
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_task_title_trgm ON task USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX idx_users_username_trgm ON users USING GIN (lower(username) gin_trgm_ops);
+
+CREATE INDEX idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+
+CREATE INDEX idx_label_name_trgm ON label USING GIN (lower(name) gin_trgm_ops);
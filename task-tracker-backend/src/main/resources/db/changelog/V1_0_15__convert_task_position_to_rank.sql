@@ -0,0 +1,22 @@
+ALTER TABLE task
+    ADD COLUMN rank TEXT COLLATE "C";
+
+UPDATE task t
+SET rank = ranked.rank
+FROM (SELECT id,
+             lpad(row_number() OVER (PARTITION BY section_id ORDER BY position, id)::TEXT, 9, '0') || 'i' AS rank
+      FROM task) ranked
+WHERE t.id = ranked.id;
+
+DROP INDEX idx_task_section_id_position_id;
+
+ALTER TABLE task
+    DROP COLUMN position;
+
+ALTER TABLE task
+    RENAME COLUMN rank TO position;
+
+ALTER TABLE task
+    ALTER COLUMN position SET NOT NULL;
+
+CREATE INDEX idx_task_section_id_position_id ON task (section_id, position, id);
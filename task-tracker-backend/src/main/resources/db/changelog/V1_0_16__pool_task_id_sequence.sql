@@ -0,0 +1 @@
+ALTER SEQUENCE task_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+DROP INDEX idx_task_created_id;
+
+CREATE INDEX idx_task_section_id_created_id ON task (section_id, created DESC, id DESC);
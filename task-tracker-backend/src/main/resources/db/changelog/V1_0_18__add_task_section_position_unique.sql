@@ -0,0 +1,13 @@
+UPDATE task t
+SET position = ranked.position
+FROM (SELECT id,
+             lpad(row_number() OVER (PARTITION BY section_id ORDER BY position, id)::TEXT, 9, '0') || 'i' AS position
+      FROM task
+      WHERE section_id IN (SELECT section_id
+                           FROM task
+                           GROUP BY section_id, position
+                           HAVING count(*) > 1)) ranked
+WHERE t.id = ranked.id;
+
+ALTER TABLE task
+    ADD CONSTRAINT uk_task_section_id_position UNIQUE (section_id, position) DEFERRABLE INITIALLY DEFERRED;
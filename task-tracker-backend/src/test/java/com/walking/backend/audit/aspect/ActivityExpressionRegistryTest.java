@@ -0,0 +1,48 @@
+package com.walking.backend.audit.aspect;
+
+import com.walking.backend.audit.annotation.TrackActivity;
+import com.walking.backend.domain.dto.section.SectionResponse;
+import com.walking.backend.domain.model.ActivityType;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityExpressionRegistryTest {
+    private final ActivityExpressionRegistry registry = new ActivityExpressionRegistry();
+
+    @Test
+    void getDescription_whenCalledRepeatedly_shouldParseOncePerMethod() throws Exception {
+        Method method = getClass().getDeclaredMethod("createSection", Long.class);
+        TrackActivity trackActivity = method.getAnnotation(TrackActivity.class);
+
+        Expression expression = registry.getDescription(method, trackActivity);
+
+        assertSame(expression, registry.getDescription(method, trackActivity));
+    }
+
+    @Test
+    void getDescription_whenEvaluated_shouldBeCompilable() throws Exception {
+        Method method = getClass().getDeclaredMethod("createSection", Long.class);
+        Expression expression = registry.getDescription(method, method.getAnnotation(TrackActivity.class));
+        var context = new MethodBasedEvaluationContext(this, method, new Object[]{1L}, new DefaultParameterNameDiscoverer());
+        context.setVariable("result", createSection(1L));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Created section To Do", expression.getValue(context, String.class));
+        }
+
+        assertTrue(((SpelExpression) expression).compileExpression());
+        assertEquals("Created section To Do", expression.getValue(context, String.class));
+    }
+
+    @TrackActivity(type = ActivityType.SECTION_CREATED, description = "'Created section ' + #result.name")
+    private SectionResponse createSection(Long boardId) {
+        return new SectionResponse(1L, "To Do", boardId, null, null);
+    }
+}
@@ -0,0 +1,176 @@
+package com.walking.backend.audit.service;
+
+import com.walking.backend.domain.event.UserActivityEvent;
+import com.walking.backend.domain.event.UserActivityInternalEvent;
+import com.walking.backend.domain.model.UserActivity;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.UserActivityRepository;
+import com.walking.backend.service.KafkaProducerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.walking.backend.domain.model.ActivityType.TASK_CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityBatchWriterTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    @Mock
+    private UserActivityRepository userActivityRepository;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<UserActivity>> activitiesCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<Long, UserActivityEvent>> eventsCaptor;
+
+    private ActivityBatchWriter activityBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getActivity().setBatchSize(10);
+        appProperties.getActivity().setFlushInterval(Duration.ofMillis(300));
+        appProperties.getActivity().setQueueCapacity(100);
+        appProperties.getActivity().setShutdownTimeout(Duration.ofSeconds(1));
+
+        AtomicLong ids = new AtomicLong();
+        lenient().doAnswer(invocation -> {
+            List<UserActivity> activities = invocation.getArgument(0);
+            activities.forEach(activity -> activity.setId(ids.incrementAndGet()));
+            return null;
+        }).when(userActivityRepository).insertAll(anyList());
+
+        activityBatchWriter = new ActivityBatchWriter(
+                userActivityRepository, kafkaProducerService, transactionManager, appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (activityBatchWriter.isRunning()) {
+            activityBatchWriter.stop();
+        }
+    }
+
+    @Test
+    void enqueue_whenEventsArriveWithinFlushInterval_shouldWriteThemInOneBatch() {
+        activityBatchWriter.start();
+
+        activityBatchWriter.enqueue(event("first"));
+        activityBatchWriter.enqueue(event("second"));
+        activityBatchWriter.enqueue(event("third"));
+
+        verify(userActivityRepository, timeout(TIMEOUT_MILLIS)).insertAll(activitiesCaptor.capture());
+        verify(kafkaProducerService, timeout(TIMEOUT_MILLIS)).sendUserActivityEvents(eventsCaptor.capture());
+
+        assertEquals(List.of("first", "second", "third"),
+                activitiesCaptor.getValue().stream().map(UserActivity::getDescription).toList());
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(eventsCaptor.getValue().keySet()));
+        assertEquals("third", eventsCaptor.getValue().get(3L).getDescription());
+    }
+
+    @Test
+    void enqueue_whenBatchSizeReached_shouldSplitIntoSeveralBatches() {
+        activityBatchWriter.start();
+
+        for (int i = 0; i < 25; i++) {
+            activityBatchWriter.enqueue(event("event-" + i));
+        }
+
+        verify(userActivityRepository, timeout(TIMEOUT_MILLIS).times(3)).insertAll(activitiesCaptor.capture());
+
+        assertEquals(List.of(10, 10, 5), activitiesCaptor.getAllValues().stream().map(List::size).toList());
+        verify(kafkaProducerService, timeout(TIMEOUT_MILLIS).times(3)).sendUserActivityEvents(anyMap());
+    }
+
+    @Test
+    void enqueue_whenWriterNotRunning_shouldWriteOnCallerThread() {
+        activityBatchWriter.enqueue(event("first"));
+
+        verify(userActivityRepository).insertAll(anyList());
+        verify(kafkaProducerService).sendUserActivityEvents(argThat(events -> events.keySet().equals(Set.of(1L))));
+    }
+
+    @Test
+    void enqueue_whenWriteFails_shouldKeepDrainingLaterEvents() {
+        doThrow(new IllegalStateException("database is down"))
+                .doNothing()
+                .when(userActivityRepository).insertAll(anyList());
+        activityBatchWriter.start();
+
+        activityBatchWriter.enqueue(event("lost"));
+        verify(userActivityRepository, timeout(TIMEOUT_MILLIS)).insertAll(anyList());
+
+        activityBatchWriter.enqueue(event("written"));
+        verify(userActivityRepository, timeout(TIMEOUT_MILLIS).times(2)).insertAll(anyList());
+        verify(kafkaProducerService, timeout(TIMEOUT_MILLIS)).sendUserActivityEvents(anyMap());
+    }
+
+    @Test
+    void enqueue_whenOneEventBreaksBatch_shouldRetryRowByRowAndSendStoredOnes() {
+        AtomicLong ids = new AtomicLong();
+        doAnswer(invocation -> {
+            List<UserActivity> activities = invocation.getArgument(0);
+            if (activities.stream().anyMatch(activity -> activity.getDescription().equals("broken"))) {
+                throw new IllegalStateException("value too long");
+            }
+            activities.forEach(activity -> activity.setId(ids.incrementAndGet()));
+            return null;
+        }).when(userActivityRepository).insertAll(anyList());
+        activityBatchWriter.start();
+
+        activityBatchWriter.enqueue(event("first"));
+        activityBatchWriter.enqueue(event("broken"));
+        activityBatchWriter.enqueue(event("third"));
+
+        verify(kafkaProducerService, timeout(TIMEOUT_MILLIS)).sendUserActivityEvents(eventsCaptor.capture());
+        verify(userActivityRepository, times(4)).insertAll(anyList());
+
+        assertEquals(List.of("first", "third"), eventsCaptor.getValue().values().stream()
+                .map(UserActivityEvent::getDescription)
+                .toList());
+    }
+
+    @Test
+    void enqueue_whenBoardIdMissing_shouldSkipEvent() {
+        activityBatchWriter.enqueue(new UserActivityInternalEvent(
+                1L, "Dante", "dante@gmail.com", null, "Unknown Board", TASK_CREATED, "orphan"));
+
+        verifyNoInteractions(userActivityRepository, kafkaProducerService);
+    }
+
+    @Test
+    void enqueue_whenWritingOnCallerThreadFails_shouldNotPropagate() {
+        doThrow(new IllegalStateException("database is down")).when(userActivityRepository).insertAll(anyList());
+
+        assertDoesNotThrow(() -> activityBatchWriter.enqueue(event("first")));
+
+        verifyNoInteractions(kafkaProducerService);
+    }
+
+    private UserActivityInternalEvent event(String description) {
+        return new UserActivityInternalEvent(1L, "Dante", "dante@gmail.com", 1L, "Board", TASK_CREATED, description);
+    }
+}
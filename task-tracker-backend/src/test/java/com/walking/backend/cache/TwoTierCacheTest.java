@@ -0,0 +1,207 @@
+package com.walking.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("users", false);
+    private final List<String> broadcasts = new ArrayList<>();
+    private final TwoTierCache cache = new TwoTierCache("users",
+            Caffeine.newBuilder().maximumSize(100).build(),
+            remote,
+            (name, key) -> broadcasts.add(name + "|" + key));
+
+    @Test
+    void get_whenValueIsOnlyInRemoteTier_shouldFillLocalTier() {
+        remote.put(1L, "John");
+
+        assertEquals("John", cache.get(1L, String.class));
+        remote.evict(1L);
+        assertEquals("John", cache.get(1L, String.class));
+
+        assertEquals(1, cache.getRemoteHits());
+        assertEquals(1, cache.getLocalHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    void get_whenValueIsMissing_shouldLoadOnceAndStoreInBothTiers() {
+        assertEquals("John", cache.get(1L, () -> "John"));
+        assertEquals("John", cache.get(1L, () -> fail("Value should be cached")));
+
+        assertEquals("John", remote.get(1L, String.class));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getLocalHits());
+    }
+
+    @Test
+    void evict_shouldClearBothTiersAndBroadcast() {
+        cache.put(1L, "John");
+
+        cache.evict(1L);
+
+        assertNull(cache.get(1L));
+        assertNull(remote.get(1L));
+        assertEquals(List.of("users|1"), broadcasts);
+    }
+
+    @Test
+    void evictLocal_shouldKeepRemoteTier() {
+        cache.put(1L, "John");
+
+        cache.evictLocal("1");
+
+        assertEquals("John", cache.get(1L, String.class));
+        assertEquals(1, cache.getRemoteHits());
+        assertTrue(broadcasts.isEmpty());
+    }
+
+    @Test
+    void get_whenKeyIsLoadedConcurrently_shouldCoalesceIntoOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "John";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1L, loader));
+            loading.await();
+            Future<String> second = executor.submit(() -> cache.get(1L, loader));
+
+            while (cache.getCoalescedLoads() == 0) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+
+            assertEquals("John", first.get(5, TimeUnit.SECONDS));
+            assertEquals("John", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_whenRemoteEntryIsCloseToExpiry_shouldRefreshItAhead() {
+        RemoteTier perKey = RemoteTier.perKey(remote);
+        RemoteTier expiringSoon = new RemoteTier() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                return perKey.getAll(keys);
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                perKey.putAll(values);
+            }
+
+            @Override
+            public void evictAll(Collection<?> keys) {
+                perKey.evictAll(keys);
+            }
+
+            @Override
+            public Entry getWithTtl(Object key) {
+                Entry entry = perKey.getWithTtl(key);
+                return entry == null ? null : new Entry(entry.value(), Duration.ofMillis(1));
+            }
+
+            @Override
+            public boolean tryLock(Object key, String token, Duration timeout) {
+                return true;
+            }
+
+            @Override
+            public void unlock(Object key, String token) {
+            }
+
+            @Override
+            public boolean isLocked(Object key) {
+                return false;
+            }
+        };
+        var refreshingCache = new TwoTierCache("users",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remote,
+                expiringSoon,
+                new LoadPolicy(Duration.ofSeconds(1), Duration.ofMillis(10), 1.0, Duration.ofMinutes(1), Runnable::run),
+                (name, key) -> broadcasts.add(name + "|" + key));
+        remote.put(1L, "John");
+
+        assertEquals("John", refreshingCache.get(1L, () -> "Johnny"));
+
+        assertEquals("Johnny", remote.get(1L, String.class));
+        assertEquals(1, refreshingCache.getRefreshes());
+    }
+
+    @Test
+    void get_whenLockHolderReleasedLockWithoutStoringValue_shouldStopWaitingAndLoad() {
+        RemoteTier perKey = RemoteTier.perKey(remote);
+        AtomicInteger lockChecks = new AtomicInteger();
+        RemoteTier failedElsewhere = new RemoteTier() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                return perKey.getAll(keys);
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                perKey.putAll(values);
+            }
+
+            @Override
+            public void evictAll(Collection<?> keys) {
+                perKey.evictAll(keys);
+            }
+
+            @Override
+            public Entry getWithTtl(Object key) {
+                return perKey.getWithTtl(key);
+            }
+
+            @Override
+            public boolean tryLock(Object key, String token, Duration timeout) {
+                return false;
+            }
+
+            @Override
+            public void unlock(Object key, String token) {
+            }
+
+            @Override
+            public boolean isLocked(Object key) {
+                return lockChecks.incrementAndGet() < 3;
+            }
+        };
+        var waitingCache = new TwoTierCache("users",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remote,
+                failedElsewhere,
+                new LoadPolicy(Duration.ofSeconds(30), Duration.ofMillis(10), 0, Duration.ofMinutes(1), null),
+                (name, key) -> broadcasts.add(name + "|" + key));
+
+        String actual = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> waitingCache.get(1L, () -> "John"));
+
+        assertEquals("John", actual);
+        assertEquals(3, lockChecks.get());
+        assertEquals("John", remote.get(1L, String.class));
+    }
+}
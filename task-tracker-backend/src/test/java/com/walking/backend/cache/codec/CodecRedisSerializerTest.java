@@ -0,0 +1,67 @@
+package com.walking.backend.cache.codec;
+
+import com.walking.backend.domain.dto.user.UserProfileResponse;
+import com.walking.backend.domain.dto.user.UserShortResponse;
+import com.walking.backend.domain.projection.BoardInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecRedisSerializerTest {
+    private final RedisSerializer<Object> jsonSerializer = GenericJacksonJsonRedisSerializer.builder()
+            .enableDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                    .allowIfBaseType(Object.class)
+                    .allowIfSubType("com.walking.backend")
+                    .allowIfSubType("java.util")
+                    .build())
+            .build();
+    private final CodecRedisSerializer serializer = new CodecRedisSerializer(
+            List.of(new BoardInfoCodec(), new UserShortResponseCodec(), new UserProfileResponseCodec(),
+                    new UserPublicProfileResponseCodec()),
+            jsonSerializer);
+
+    @Test
+    void serialize_whenTypeHasCodec_shouldRoundTripAndBeSmallerThanJson() {
+        var value = new UserProfileResponse(1L, "john_doe", "john@example.com", null, "avatars/1/a", "Bio");
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertEquals(value, serializer.deserialize(bytes));
+        assertTrue(bytes.length < jsonSerializer.serialize(value).length / 2);
+    }
+
+    @Test
+    void serialize_whenTypeHasNoCodec_shouldUseFallback() {
+        var value = new HashMap<>(Map.of("key", "value"));
+
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    void deserialize_whenJsonWasWrittenByFallback_shouldReadIt() {
+        var value = new BoardInfo(1L, "Board");
+
+        assertEquals(value, serializer.deserialize(jsonSerializer.serialize(value)));
+    }
+
+    @Test
+    void deserialize_whenVersionIsNewerThanKnown_shouldTreatAsMiss() {
+        byte[] bytes = serializer.serialize(new UserShortResponse(1L, "john_doe", "John", null));
+        bytes[2] = 2;
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    void constructor_whenTypeIdIsReused_shouldThrowIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new CodecRedisSerializer(
+                List.of(new BoardInfoCodec(), new BoardInfoCodec()), jsonSerializer));
+    }
+}
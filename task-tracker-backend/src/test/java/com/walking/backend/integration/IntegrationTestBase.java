@@ -3,8 +3,12 @@ package com.walking.backend.integration;
 import com.redis.testcontainers.RedisContainer;
 import com.walking.backend.audit.service.ActivityService;
 import com.walking.backend.security.authentication.TokenService;
+import com.walking.backend.security.authorization.BoardRoleCache;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.KafkaProducerService;
 import com.walking.backend.storage.service.ResourceCleanupService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -73,4 +77,16 @@ public abstract class IntegrationTestBase {
 
     @MockitoSpyBean
     private ResourceCleanupService resourceCleanupService;
+
+    @Autowired
+    private BoardRoleCache boardRoleCache;
+
+    @Autowired
+    private ResourceHierarchyCache resourceHierarchyCache;
+
+    @AfterEach
+    void evictNearCaches() {
+        boardRoleCache.evictAll();
+        resourceHierarchyCache.evictAll();
+    }
 }
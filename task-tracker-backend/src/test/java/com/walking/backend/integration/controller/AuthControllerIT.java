@@ -5,12 +5,14 @@ import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.kafka.MessageDto;
 import com.walking.backend.integration.IntegrationTestBase;
 import com.walking.backend.integration.annotation.WithMockUser;
+import com.walking.backend.props.AppProperties;
 import com.walking.backend.service.AuthService;
 import com.walking.backend.service.KafkaProducerService;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -30,6 +32,8 @@ public class AuthControllerIT extends IntegrationTestBase {
     private final AuthService authService;
     private final KafkaProducerService kafkaProducerService;
     private final MockMvc mockMvc;
+    private final StringRedisTemplate redisTemplate;
+    private final AppProperties appProperties;
 
     private static final String USERNAME = "Zoxka";
     private static final String EMAIL = "san781617@gmail.com";
@@ -38,6 +42,7 @@ public class AuthControllerIT extends IntegrationTestBase {
     @BeforeEach
     void setUp() {
         doNothing().when(kafkaProducerService).sendMessageDto(anyString(), any(MessageDto.class));
+        redisTemplate.delete(appProperties.getSecurity().getRateLimit().getKeyPrefix() + "sign-in:ip:127.0.0.1");
     }
 
     @Test
@@ -169,6 +174,38 @@ public class AuthControllerIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    void signIn_whenRateLimitExceeded_returnTooManyRequests() throws Exception {
+        int capacity = appProperties.getSecurity().getRateLimit().getRules().stream()
+                .filter(rule -> rule.getName().equals("sign-in"))
+                .findFirst()
+                .orElseThrow()
+                .getCapacity();
+        String content = """
+                {
+                    "username": "U",
+                    "password": "P2"
+                }
+                """;
+
+        for (int i = 0; i < capacity; i++) {
+            mockMvc.perform(post("/auth/sign-in")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(post("/auth/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+                .andExpect(jsonPath("$.error").value(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase()))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
     @Test
     void refresh_whenValidRefreshToken_returnAuthResponse() throws Exception {
         AuthResponse authResponse = authService.signIn(new SignInRequest(USERNAME, PASSWORD));
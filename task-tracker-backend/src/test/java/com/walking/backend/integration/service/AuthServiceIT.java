@@ -1,33 +1,49 @@
 package com.walking.backend.integration.service;
 
 import com.walking.backend.domain.dto.auth.AuthResponse;
+import com.walking.backend.domain.dto.auth.SessionResponse;
 import com.walking.backend.domain.dto.auth.SignInRequest;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
 import com.walking.backend.domain.dto.kafka.MessageDto;
 import com.walking.backend.domain.exception.AuthException;
 import com.walking.backend.domain.exception.DuplicateException;
+import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.User;
 import com.walking.backend.domain.model.UserProfile;
 import com.walking.backend.integration.IntegrationTestBase;
+import com.walking.backend.integration.util.SqlStatementRecorder;
 import com.walking.backend.props.AppProperties;
 import com.walking.backend.repository.UserProfileRepository;
 import com.walking.backend.repository.UserRepository;
 import com.walking.backend.security.authentication.JwtService;
 import com.walking.backend.security.authentication.TokenService;
+import com.walking.backend.security.filter.JwtFilter;
+import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.KafkaProducerService;
 import com.walking.backend.service.impl.AuthServiceImpl;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.testcontainers.shaded.com.google.common.net.HttpHeaders;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -39,13 +55,22 @@ public class AuthServiceIT extends IntegrationTestBase {
     private final KafkaProducerService kafkaProducerService;
     private final TokenService tokenService;
     private final JwtService jwtService;
+    private final JwtFilter jwtFilter;
 
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
 
     private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
     private final AppProperties appProperties;
 
+    @BeforeEach
+    void clearSessions() {
+        AppProperties.Security.Jwt.Redis redis = appProperties.getSecurity().getJwt().getRedis();
+
+        redisTemplate.delete(List.of(redis.getSessionsPrefix() + 1, redis.getSessionExpiryPrefix() + 1));
+    }
+
     @Test
     void signUp_whenValidRequestData_shouldReturnAuthResponse() {
         doNothing().when(kafkaProducerService).sendMessageDto(anyLong(), any(MessageDto.class));
@@ -67,7 +92,8 @@ public class AuthServiceIT extends IntegrationTestBase {
         assertThat(userProfile).isPresent();
 
         verify(kafkaProducerService).sendMessageDto(anyLong(), any(MessageDto.class));
-        verify(tokenService).generateTokens(savedUser.getUsername(), savedUser.getId(), mockResponse);
+        verify(tokenService).generateTokens(
+                new CustomUserDetails(savedUser.getId(), savedUser.getUsername(), savedUser.getEmail(), null), mockResponse);
     }
 
     @Test
@@ -106,8 +132,21 @@ public class AuthServiceIT extends IntegrationTestBase {
         assertThat(actual).isNotNull();
         assertThat(actual.accessToken()).isNotBlank();
 
-        verify(tokenService).deleteRefreshToken(anyLong());
-        verify(tokenService).generateTokens(eq(signInRequest.username()), anyLong(), any(HttpServletResponse.class));
+        verify(tokenService).generateTokens(any(CustomUserDetails.class), any(HttpServletResponse.class));
+    }
+
+    @Test
+    void signIn_whenStoredHashUsesLowerCost_shouldRehashWithConfiguredCost() {
+        jdbcTemplate.update("UPDATE users SET password = ? WHERE id = 1", new BCryptPasswordEncoder(4).encode("password123"));
+
+        authService.signIn(new SignInRequest("john_doe", "password123"), new MockHttpServletResponse());
+
+        String storedHash = jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = 1", String.class);
+        int strength = appProperties.getSecurity().getPasswordHashing().getStrength();
+
+        assertThat(storedHash).startsWith("$2a$%02d$".formatted(strength));
+        assertThat(authService.signIn(new SignInRequest("john_doe", "password123"), new MockHttpServletResponse()))
+                .isNotNull();
     }
 
     @Test
@@ -134,7 +173,8 @@ public class AuthServiceIT extends IntegrationTestBase {
     @Test
     void refreshToken_whenTokenNotFoundInRedis_shouldThrowAuthException() {
         var mockResponse = new MockHttpServletResponse();
-        String fakeToken = jwtService.generateRefreshToken("dante");
+        String fakeToken = jwtService.generateRefreshToken(
+                new CustomUserDetails(99L, "dante", "dante@gmail.com", null), UUID.randomUUID().toString());
 
         assertThatThrownBy(() -> authService.refreshToken(fakeToken, mockResponse))
                 .isInstanceOf(AuthException.class)
@@ -165,6 +205,146 @@ public class AuthServiceIT extends IntegrationTestBase {
         assertThat(newSetCookieHeader).isNotBlank();
     }
 
+    @Test
+    void refreshToken_whenSameTokenIsRefreshedConcurrently_shouldSucceedExactlyOnce() throws Exception {
+        var mockSignInResponse = new MockHttpServletResponse();
+        authService.signIn(new SignInRequest("john_doe", "password123"), mockSignInResponse);
+
+        String refreshToken = extractTokenFromCookie(
+                mockSignInResponse.getHeader(HttpHeaders.SET_COOKIE), appProperties.getSecurity().getJwt().getCookieName());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger revoked = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.refreshToken(refreshToken, new MockHttpServletResponse());
+                        succeeded.incrementAndGet();
+                    } catch (AuthException e) {
+                        revoked.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(revoked.get()).isEqualTo(threads - 1);
+    }
+
+    @Test
+    void signIn_whenUserSignsInOnSecondDevice_shouldKeepBothSessions() {
+        String firstToken = signInAndGetRefreshToken();
+        String secondToken = signInAndGetRefreshToken();
+
+        assertThat(authService.getSessions(1L)).hasSize(2);
+        assertThat(authService.refreshToken(firstToken, new MockHttpServletResponse()).accessToken()).isNotBlank();
+        assertThat(authService.refreshToken(secondToken, new MockHttpServletResponse()).accessToken()).isNotBlank();
+        assertThat(authService.getSessions(1L)).hasSize(2);
+    }
+
+    @Test
+    void revokeSession_whenSessionExists_shouldSignOnlyThatDeviceOut() {
+        String firstToken = signInAndGetRefreshToken();
+        String secondToken = signInAndGetRefreshToken();
+        String firstSessionId = jwtService.extractSessionId(jwtService.extractAllClaims(firstToken));
+
+        authService.revokeSession(1L, firstSessionId);
+
+        assertThatThrownBy(() -> authService.refreshToken(firstToken, new MockHttpServletResponse()))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("Refresh token is revoked");
+        assertThat(authService.refreshToken(secondToken, new MockHttpServletResponse()).accessToken()).isNotBlank();
+        assertThat(authService.getSessions(1L))
+                .extracting(SessionResponse::id)
+                .doesNotContain(firstSessionId);
+    }
+
+    @Test
+    void revokeSession_whenSessionNotFound_shouldThrowObjectNotFoundException() {
+        assertThatThrownBy(() -> authService.revokeSession(1L, "missing"))
+                .isInstanceOf(ObjectNotFoundException.class);
+    }
+
+    @Test
+    void revokeAllSessions_whenUserHasSeveralDevices_shouldRevokeEveryRefreshToken() {
+        String firstToken = signInAndGetRefreshToken();
+        String secondToken = signInAndGetRefreshToken();
+
+        authService.revokeAllSessions(1L);
+
+        assertThat(authService.getSessions(1L)).isEmpty();
+        assertThatThrownBy(() -> authService.refreshToken(firstToken, new MockHttpServletResponse()))
+                .isInstanceOf(AuthException.class);
+        assertThatThrownBy(() -> authService.refreshToken(secondToken, new MockHttpServletResponse()))
+                .isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    void jwtFilter_whenAccessTokenIsValid_shouldAuthenticateFromClaimsWithoutQueryingUsers() throws Exception {
+        var userDetails = new CustomUserDetails(2L, "jane_smith", "jane.smith@example.com", null);
+        var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateAccessToken(userDetails));
+        SqlStatementRecorder.clear();
+
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+            assertThat(SqlStatementRecorder.getStatements()).isEmpty();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void jwtFilter_whenAccessTokenIsRevoked_shouldNotAuthenticate() throws Exception {
+        String accessToken = jwtService.generateAccessToken(
+                new CustomUserDetails(2L, "jane_smith", "jane.smith@example.com", null));
+        var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+        tokenService.revokeAccessToken(accessToken);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute("ex_message")).isEqualTo("Token is revoked");
+    }
+
+    @Test
+    void jwtFilter_whenRefreshTokenSentAsBearer_shouldNotAuthenticate() throws Exception {
+        var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + signInAndGetRefreshToken());
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute("ex_message")).isEqualTo("Invalid or malformed token");
+    }
+
+    private String signInAndGetRefreshToken() {
+        var mockResponse = new MockHttpServletResponse();
+        authService.signIn(new SignInRequest("john_doe", "password123"), mockResponse);
+
+        return extractTokenFromCookie(
+                mockResponse.getHeader(HttpHeaders.SET_COOKIE), appProperties.getSecurity().getJwt().getCookieName());
+    }
+
     private String extractTokenFromCookie(String setCookieHeader, String cookieName) {
         return Arrays.stream(setCookieHeader.split(";"))
                 .map(String::trim)
@@ -10,7 +10,10 @@ import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.BoardMember;
 import com.walking.backend.integration.IntegrationTestBase;
 import com.walking.backend.integration.annotation.WithMockUser;
+import com.walking.backend.integration.util.SqlStatementRecorder;
 import com.walking.backend.repository.BoardMemberRepository;
+import com.walking.backend.security.authorization.BoardRoleCache;
+import com.walking.backend.security.authorization.ResourceAccessService;
 import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.BoardMemberService;
 import com.walking.backend.service.KafkaProducerService;
@@ -18,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 
 import static com.walking.backend.domain.model.ActivityType.MEMBER_REMOVED;
@@ -37,6 +42,9 @@ public class BoardMemberServiceIT extends IntegrationTestBase {
     private final KafkaProducerService kafkaProducerService;
 
     private final BoardMemberRepository boardMemberRepository;
+    private final ResourceAccessService resourceAccessService;
+    private final BoardRoleCache boardRoleCache;
+    private final JdbcTemplate jdbcTemplate;
 
     @Test
     void getMembers_whenBoardExistsAndUserHasAccess_shouldReturnFilteredMembersPage() {
@@ -152,6 +160,47 @@ public class BoardMemberServiceIT extends IntegrationTestBase {
         verify(activityService).publish(any(), eq(MEMBER_REMOVED), eq("Removed member john_snow"));
     }
 
+    @Test
+    void removeMember_whenMemberRoleIsCached_shouldRevokeAccessImmediately() {
+        assertThat(resourceAccessService.canEditBoard(1L, 3L)).isTrue();
+
+        boardMemberService.removeMember(1L, 3L, 2L);
+
+        assertThat(resourceAccessService.canViewBoard(1L, 3L)).isFalse();
+    }
+
+    @Test
+    void changeRole_whenMemberRoleIsCached_shouldApplyNewRoleImmediately() {
+        assertThat(resourceAccessService.canEditBoard(1L, 3L)).isTrue();
+
+        boardMemberService.changeRole(1L, new BoardMemberRequest(3L, VIEWER), 2L);
+
+        assertThat(resourceAccessService.canEditBoard(1L, 3L)).isFalse();
+        assertThat(resourceAccessService.canViewBoard(1L, 3L)).isTrue();
+    }
+
+    @Test
+    void canViewBoard_whenRolesAreCached_shouldNotQueryDatabase() {
+        assertThat(resourceAccessService.canViewBoard(1L, 2L)).isTrue();
+        SqlStatementRecorder.clear();
+
+        assertThat(resourceAccessService.canManageBoard(1L, 2L)).isTrue();
+        assertThat(resourceAccessService.canViewBoard(3L, 2L)).isTrue();
+        assertThat(resourceAccessService.canViewBoard(99L, 2L)).isFalse();
+
+        assertThat(SqlStatementRecorder.getStatements()).isEmpty();
+    }
+
+    @Test
+    void onMessage_whenEvictionIsBroadcast_shouldReloadRolesFromDatabase() {
+        assertThat(resourceAccessService.canViewBoard(1L, 3L)).isTrue();
+        jdbcTemplate.update("DELETE FROM board_member WHERE board_id = 1 AND user_id = 3");
+
+        boardRoleCache.onMessage(new DefaultMessage("board-role:evict".getBytes(), "3".getBytes()), null);
+
+        assertThat(resourceAccessService.canViewBoard(1L, 3L)).isFalse();
+    }
+
     @Test
     void removeMember_whenRemovingSelf_shouldThrowIllegalOperationException() {
         Long boardId = 1L;
@@ -2,13 +2,20 @@ package com.walking.backend.integration.service;
 
 import com.walking.backend.audit.service.ActivityService;
 import com.walking.backend.audit.service.BoardLookupService;
+import com.walking.backend.cache.TwoTierCache;
+import com.walking.backend.cache.TwoTierCacheManager;
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
+import com.walking.backend.domain.dto.section.SectionSnapshotResponse;
+import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.model.Board;
 import com.walking.backend.domain.model.BoardMember;
 import com.walking.backend.domain.projection.BoardInfo;
 import com.walking.backend.integration.IntegrationTestBase;
 import com.walking.backend.integration.annotation.WithMockUser;
+import com.walking.backend.props.CacheNames;
 import com.walking.backend.repository.BoardMemberRepository;
 import com.walking.backend.repository.BoardRepository;
 import com.walking.backend.service.BoardService;
@@ -17,8 +24,11 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.transaction.TestTransaction;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.walking.backend.domain.model.ActivityType.BOARD_DELETED;
@@ -39,6 +49,8 @@ public class BoardServiceIT extends IntegrationTestBase {
 
     private final BoardRepository boardRepository;
     private final BoardMemberRepository boardMemberRepository;
+    private final TwoTierCacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Test
     void getBoards_whenUserHasBoards_shouldReturnOnlyUserBoards() {
@@ -66,6 +78,34 @@ public class BoardServiceIT extends IntegrationTestBase {
                 .contains("Second Test Board");
     }
 
+    @Test
+    void getBoardSnapshot_whenMemberRequests_shouldReturnSectionsWithOrderedTasks() {
+        BoardSnapshotResponse actual = boardService.getBoardSnapshot(1L);
+
+        assertThat(actual.name()).isEqualTo("Test Board");
+        assertThat(actual.sections())
+                .extracting(SectionSnapshotResponse::name)
+                .containsExactly("To Do", "In Progress");
+
+        SectionSnapshotResponse todo = actual.sections().getFirst();
+        assertThat(todo.tasks())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(todo.tasks().getFirst().assignees())
+                .extracting(UserShortResponse::username)
+                .containsExactlyInAnyOrder("john_doe", "jane_smith");
+        assertThat(todo.tasks().get(2).assignees()).isEmpty();
+
+        assertThat(actual.sections().get(1).tasks()).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(id = 1L, username = "john_doe")
+    void getBoardSnapshot_whenNonMemberRequests_shouldThrowAccessDenied() {
+        assertThatThrownBy(() -> boardService.getBoardSnapshot(1L))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
     @Test
     void createBoard_whenValidRequestData_shouldCreateBoardWithOwner() {
         Long userId = 1L;
@@ -153,6 +193,26 @@ public class BoardServiceIT extends IntegrationTestBase {
         assertThat(refreshed.name()).isEqualTo("DB DIRECT CHANGE");
     }
 
+    @Test
+    void updateBoard_whenRenamed_shouldEvictOnlySectionsOfThatBoardOnceTransactionCompletes() {
+        jdbcTemplate.update("INSERT INTO section (id, name, board_id, created, updated) VALUES (20, 'Other', 2, NOW(), NOW())");
+        TwoTierCache sectionCache = cacheManager.getCache(CacheNames.BOARD_INFO_SECTION);
+        sectionCache.evictAll(List.of(1L, 20L));
+
+        BoardInfo cached = boardLookupService.getBoardInfoBySectionId(1L);
+        boardLookupService.getBoardInfoBySectionId(20L);
+
+        boardService.updateBoard(new BoardRequest("Renamed Board"), 1L);
+
+        assertThat(boardLookupService.getBoardInfoBySectionId(1L)).isEqualTo(cached);
+
+        TestTransaction.end();
+
+        assertThat(sectionCache.get(1L)).isNull();
+        assertThat(sectionCache.get(20L)).isNotNull();
+        sectionCache.evict(20L);
+    }
+
     @Test
     void deleteBoard_whenOwnerDeletes_shouldRemoveFromDb() {
         boardService.deleteBoard(1L);
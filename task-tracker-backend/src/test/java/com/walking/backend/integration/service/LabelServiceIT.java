@@ -15,6 +15,7 @@ import com.walking.backend.repository.LabelRepository;
 import com.walking.backend.service.LabelService;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.List;
@@ -34,6 +35,7 @@ public class LabelServiceIT extends IntegrationTestBase {
     private final LabelRepository labelRepository;
     private final ActivityService activityService;
     private final AppProperties appProperties;
+    private final JdbcTemplate jdbcTemplate;
 
     @Test
     void getLabels_whenBoardExistsAndUserHasAccess_shouldReturnLabelsList() {
@@ -53,6 +55,23 @@ public class LabelServiceIT extends IntegrationTestBase {
         assertThat(actual.getFirst().name()).isEqualTo("Bug");
     }
 
+    @Test
+    void getLabels_whenNameFilterContainsWildcards_shouldMatchThemLiterally() {
+        List<LabelResponse> actual = labelService.getLabels(1L, "%");
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getLabels_whenSequentialScanDisabled_shouldUseNameTrigramIndex() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM label WHERE lower(name) LIKE '%bug%'", String.class);
+
+        assertThat(String.join("\n", plan)).contains("idx_label_name_trgm");
+    }
+
     @Test
     void getLabels_whenNoLabelsMatchFilter_shouldReturnEmptyList() {
         List<LabelResponse> actual = labelService.getLabels(1L, "nonexistent");
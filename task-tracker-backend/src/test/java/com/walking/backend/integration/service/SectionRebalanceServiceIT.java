@@ -0,0 +1,117 @@
+package com.walking.backend.integration.service;
+
+import com.walking.backend.domain.model.Section;
+import com.walking.backend.domain.model.Task;
+import com.walking.backend.integration.IntegrationTestBase;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.rebalance.service.SectionRebalanceService;
+import com.walking.backend.repository.SectionRepository;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.util.TaskRank;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiredArgsConstructor
+public class SectionRebalanceServiceIT extends IntegrationTestBase {
+    private static final Long SECTION_ID = 2L;
+
+    private final SectionRebalanceService sectionRebalanceService;
+    private final TaskRepository taskRepository;
+    private final SectionRepository sectionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final AppProperties appProperties;
+
+    @Test
+    void rebalance_whenSectionHasLongPositions_shouldShortenThemInBatchesAndKeepOrder() {
+        int taskCount = appProperties.getTask().getRebalance().getBatchSize() * 2 + 100;
+        List<Long> expectedOrder = seedCrowdedSection(taskCount);
+
+        sectionRebalanceService.rebalance(SECTION_ID);
+
+        List<Map<String, Object>> rows = loadSectionPositions();
+
+        assertThat(rows)
+                .extracting(row -> ((Number) row.get("id")).longValue())
+                .containsExactlyElementsOf(expectedOrder);
+        assertThat(rows)
+                .extracting(row -> (String) row.get("position"))
+                .doesNotHaveDuplicates()
+                .allSatisfy(position -> assertThat(position.length())
+                        .isLessThanOrEqualTo(appProperties.getTask().getRebalance().getMaxPositionLength()));
+    }
+
+    @Test
+    void rebalance_whenPositionsAreShort_shouldLeaveSectionUntouched() {
+        List<Map<String, Object>> before = loadPositions(1L);
+
+        sectionRebalanceService.rebalance(1L);
+
+        assertThat(loadPositions(1L)).isEqualTo(before);
+    }
+
+    @Test
+    void rebalance_whenSectionIsLockedByAnotherWorker_shouldSkip() {
+        seedCrowdedSection(200);
+        List<Map<String, Object>> before = loadSectionPositions();
+        String lockKey = appProperties.getTask().getRebalance().getLockPrefix() + SECTION_ID;
+
+        redisTemplate.opsForValue().set(lockKey, "other-worker");
+        try {
+            sectionRebalanceService.rebalance(SECTION_ID);
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+
+        assertThat(loadSectionPositions()).isEqualTo(before);
+    }
+
+    /**
+     * Every task is dropped right before the previous one, which grows the keys by bisection.
+     */
+    private List<Long> seedCrowdedSection(int count) {
+        Section section = sectionRepository.getReferenceById(SECTION_ID);
+        String lower = TaskRank.initial();
+        String upper = TaskRank.after(lower);
+
+        List<Task> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            upper = TaskRank.between(lower, upper);
+
+            Task task = new Task();
+            task.setTitle("Crowded Task " + i);
+            task.setIsCompleted(false);
+            task.setPosition(upper);
+            task.setSection(section);
+            tasks.add(task);
+        }
+
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+
+        return tasks.reversed().stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private List<Map<String, Object>> loadSectionPositions() {
+        return loadPositions(SECTION_ID);
+    }
+
+    private List<Map<String, Object>> loadPositions(Long sectionId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id, position FROM task WHERE section_id = ? ORDER BY position, id", sectionId);
+    }
+}
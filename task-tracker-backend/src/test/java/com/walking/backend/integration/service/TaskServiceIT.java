@@ -5,29 +5,43 @@ import com.walking.backend.domain.dto.label.CreateLabelRequest;
 import com.walking.backend.domain.dto.label.LabelResponse;
 import com.walking.backend.domain.dto.task.*;
 import com.walking.backend.domain.exception.*;
+import com.walking.backend.domain.model.Label;
 import com.walking.backend.domain.model.Section;
 import com.walking.backend.domain.model.Task;
 import com.walking.backend.integration.IntegrationTestBase;
 import com.walking.backend.integration.annotation.WithMockUser;
+import com.walking.backend.integration.util.SqlStatementRecorder;
 import com.walking.backend.props.AppProperties;
+import com.walking.backend.repository.LabelRepository;
 import com.walking.backend.repository.SectionRepository;
 import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.ResourceAccessService;
 import com.walking.backend.service.LabelService;
 import com.walking.backend.service.TaskService;
 import com.walking.backend.storage.service.ResourceCleanupService;
+import com.walking.backend.util.TaskRank;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static com.walking.backend.domain.model.ActivityType.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @WithMockUser
@@ -36,10 +50,14 @@ public class TaskServiceIT extends IntegrationTestBase {
     private final TaskService taskService;
     private final TaskRepository taskRepository;
     private final SectionRepository sectionRepository;
+    private final LabelRepository labelRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
     private final LabelService labelService;
     private final ActivityService activityService;
     private final ResourceCleanupService resourceCleanupService;
     private final AppProperties appProperties;
+    private final ResourceAccessService resourceAccessService;
 
     @Test
     void getTasks_whenSectionExistsAndUserHasAccess_shouldReturnTasksPage() {
@@ -71,9 +89,21 @@ public class TaskServiceIT extends IntegrationTestBase {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    @Test
+    void getTasks_whenSectionGrows_shouldPushLimitToDatabaseAndLoadOnlyPageRows() {
+        seedLabeledTasks(2L, 20, 0);
+        long smallSectionLoads = loadFirstPageAndCountTaskLoads(2L, 20);
+
+        seedLabeledTasks(2L, 200, 20);
+        long largeSectionLoads = loadFirstPageAndCountTaskLoads(2L, 220);
+
+        assertThat(smallSectionLoads).isEqualTo(5);
+        assertThat(largeSectionLoads).isEqualTo(smallSectionLoads);
+    }
+
     @Test
     void searchTasks_whenValidFilterAndUserHasAccess_shouldReturnFilteredTasksPage() {
-        var filter = new TaskFilter("Test", 1L, false, null, null, null, null, null, null);
+        var filter = new TaskFilter("Test", 1L, false, null, null, null, null, null, null, null);
         var pageable = PageRequest.of(0, 10);
 
         Page<TaskPreviewResponse> actual = taskService.searchTasks(1L, filter, pageable);
@@ -83,7 +113,7 @@ public class TaskServiceIT extends IntegrationTestBase {
 
     @Test
     void searchTasks_whenNoTasksMatchFilter_shouldReturnEmptyPage() {
-        var filter = new TaskFilter("Nonexistent Task Title", 1L, null, null, null, null, null, null, null);
+        var filter = new TaskFilter("Nonexistent Task Title", 1L, null, null, null, null, null, null, null, null);
         var pageable = PageRequest.of(0, 10);
 
         Page<TaskPreviewResponse> actual = taskService.searchTasks(1L, filter, pageable);
@@ -94,13 +124,154 @@ public class TaskServiceIT extends IntegrationTestBase {
     @Test
     @WithMockUser(id = 99L, username = "stranger")
     void searchTasks_whenUserHasNoAccess_shouldThrowAccessDeniedException() {
-        var filter = new TaskFilter(null, null, null, null, null, null, null, null, null);
+        var filter = new TaskFilter(null, null, null, null, null, null, null, null, null, null);
         var pageable = PageRequest.of(0, 10);
 
         assertThatThrownBy(() -> taskService.searchTasks(1L, filter, pageable))
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    @Test
+    void searchTasksRanked_whenQueryIsWordPrefix_shouldMatchAndHighlight() {
+        var filter = new TaskFilter(null, null, null, null, null, null, null, null, null, "two assig");
+
+        Page<TaskSearchResponse> actual = taskService.searchTasksRanked(1L, filter, PageRequest.of(0, 10));
+
+        assertThat(actual.getTotalElements()).isEqualTo(1);
+
+        TaskSearchResponse hit = actual.getContent().getFirst();
+        assertThat(hit.task().id()).isEqualTo(1L);
+        assertThat(hit.rank()).isPositive();
+        assertThat(hit.titleHighlight()).contains("<mark>Two</mark>", "<mark>Assignees</mark>");
+    }
+
+    @Test
+    void searchTasks_whenQueryMatchesDescription_shouldRankTitleMatchesFirst() {
+        Task task = taskRepository.findById(3L).orElseThrow();
+        task.setDescription("Deployment checklist");
+        taskRepository.saveAndFlush(task);
+
+        Task other = taskRepository.findById(2L).orElseThrow();
+        other.setTitle("Deployment");
+        taskRepository.saveAndFlush(other);
+
+        var filter = new TaskFilter(null, null, null, null, null, null, null, null, null, "deploy");
+
+        Page<TaskPreviewResponse> actual = taskService.searchTasks(1L, filter, PageRequest.of(0, 10));
+
+        assertThat(actual.getContent())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void searchTasks_whenQueryCombinedWithAssigneeFilter_shouldKeepOnlyAssignedMatches() {
+        var filter = new TaskFilter(null, null, null, null, List.of(3L), null, null, null, null, "test task");
+
+        Page<TaskPreviewResponse> actual = taskService.searchTasks(1L, filter, PageRequest.of(0, 10));
+
+        assertThat(actual.getTotalElements()).isEqualTo(1);
+        assertThat(actual.getContent())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void searchTasksRanked_whenQueryCombinedWithLabelAndTitleFilters_shouldApplyWholeFilter() {
+        jdbcTemplate.update("INSERT INTO tasks_labels (task_id, label_id) VALUES (1, 1), (3, 1)");
+
+        var filter = new TaskFilter("without", null, false, List.of(1L), null, null, null, null, null, "test task");
+
+        Page<TaskSearchResponse> actual = taskService.searchTasksRanked(1L, filter, PageRequest.of(0, 10));
+
+        assertThat(actual.getTotalElements()).isEqualTo(1);
+        assertThat(actual.getContent())
+                .extracting(hit -> hit.task().id())
+                .containsExactly(3L);
+    }
+
+    @Test
+    void searchTasks_whenTitleFilterHasNoWordBoundary_shouldMatchSubstringThroughTrigramIndex() {
+        var filter = new TaskFilter("ssignee", null, null, null, null, null, null, null, null, null);
+
+        Page<TaskPreviewResponse> actual = taskService.searchTasks(1L, filter, PageRequest.of(0, 10));
+
+        assertThat(actual.getContent())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM task WHERE lower(title) LIKE '%ssignee%'", String.class);
+
+        assertThat(String.join("\n", plan)).contains("idx_task_title_trgm");
+    }
+
+    @Test
+    void searchTasksRanked_whenSequentialScanDisabled_shouldUseSearchVectorIndex() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM task WHERE search_vector @@ to_tsquery('simple', 'assig:*')", String.class);
+
+        assertThat(String.join("\n", plan)).contains("idx_task_search_vector");
+    }
+
+    @Test
+    void scrollTasks_whenFollowingNextCursor_shouldReturnAllTasksInPositionOrder() {
+        TaskSliceResponse firstSlice = taskService.scrollTasks(1L, new TaskCursorRequest(null, 2));
+
+        assertThat(firstSlice.content())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(1L, 2L);
+        assertThat(firstSlice.hasNext()).isTrue();
+
+        TaskSliceResponse secondSlice = taskService.scrollTasks(1L, new TaskCursorRequest(firstSlice.nextCursor(), 2));
+
+        assertThat(secondSlice.content())
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(3L);
+        assertThat(secondSlice.hasNext()).isFalse();
+        assertThat(secondSlice.nextCursor()).isNull();
+    }
+
+    @Test
+    void scrollSearchTasks_whenFollowingNextCursor_shouldNotRepeatTasks() {
+        var filter = new TaskFilter(null, 1L, null, null, null, null, null, null, null, null);
+
+        TaskSliceResponse firstSlice = taskService.scrollSearchTasks(1L, filter, new TaskCursorRequest(null, 2));
+        TaskSliceResponse secondSlice = taskService.scrollSearchTasks(1L, filter, new TaskCursorRequest(firstSlice.nextCursor(), 2));
+
+        assertThat(firstSlice.content()).hasSize(2);
+        assertThat(secondSlice.content()).hasSize(1);
+        assertThat(secondSlice.content())
+                .extracting(TaskPreviewResponse::id)
+                .doesNotContainAnyElementsOf(firstSlice.content().stream().map(TaskPreviewResponse::id).toList());
+    }
+
+    @Test
+    void scrollSearchTasks_whenSequentialScanDisabled_shouldSeekInsideSectionByCreatedIndex() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT id FROM task
+                WHERE section_id = 1 AND (created < now() OR (created = now() AND id < 100))
+                ORDER BY created DESC, id DESC
+                LIMIT 21
+                """, String.class);
+
+        assertThat(String.join("\n", plan))
+                .contains("idx_task_section_id_created_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void scrollTasks_whenCursorMalformed_shouldThrowInvalidCursorException() {
+        assertThatThrownBy(() -> taskService.scrollTasks(1L, new TaskCursorRequest("broken", 10)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     @Test
     void getTaskById_whenTaskExistsAndUserHasAccess_shouldReturnTaskFullResponse() {
         TaskFullResponse response = taskService.getTaskById(1L);
@@ -138,13 +309,13 @@ public class TaskServiceIT extends IntegrationTestBase {
     }
 
     @Test
-    void createTask_whenFirstTaskInSection_shouldSetPositionToStep() {
+    void createTask_whenFirstTaskInSection_shouldSetInitialPosition() {
         var request = new CreateTaskRequest("First Task", "Desc", null, null, 2L);
 
         TaskFullResponse response = taskService.createTask(request);
 
         Task saved = taskRepository.findById(response.id()).orElseThrow();
-        assertThat(saved.getPosition()).isEqualTo(appProperties.getTask().getPositionStep());
+        assertThat(saved.getPosition()).isEqualTo(TaskRank.initial());
     }
 
     @Test
@@ -154,7 +325,7 @@ public class TaskServiceIT extends IntegrationTestBase {
         TaskFullResponse response = taskService.createTask(request);
 
         Task saved = taskRepository.findById(response.id()).orElseThrow();
-        assertThat(saved.getPosition()).isGreaterThan(3.0);
+        assertThat(saved.getPosition()).isGreaterThan("3");
     }
 
     @Test
@@ -174,6 +345,53 @@ public class TaskServiceIT extends IntegrationTestBase {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    @Test
+    void createTasks_whenImportingThousandsOfTasks_shouldBatchInsertsAndPublishOneActivity() {
+        int count = 1200;
+        var items = IntStream.range(0, count)
+                .mapToObj(i -> new BulkTaskItem("Imported " + i, null, null, Set.of(3L), Set.of(1L)))
+                .toList();
+        SqlStatementRecorder.clear();
+
+        BulkCreateTasksResponse actual = taskService.createTasks(new BulkCreateTasksRequest(1L, items));
+
+        assertThat(actual.created()).isEqualTo(count);
+        assertThat(actual.taskIds()).hasSize(count).doesNotHaveDuplicates();
+        assertThat(SqlStatementRecorder.getStatements())
+                .filteredOn(sql -> sql.toLowerCase().startsWith("insert into task "))
+                .hasSizeLessThan(count / 10);
+
+        List<String> titles = jdbcTemplate.queryForList(
+                "SELECT title FROM task WHERE section_id = 1 AND position > '3' ORDER BY position", String.class);
+        assertThat(titles).hasSize(count).startsWith("Imported 0", "Imported 1").endsWith("Imported " + (count - 1));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tasks_labels WHERE label_id = 1 AND task_id IN (SELECT id FROM task WHERE title LIKE 'Imported %')",
+                Integer.class)).isEqualTo(count);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_assignee WHERE user_id = 3 AND task_id IN (SELECT id FROM task WHERE title LIKE 'Imported %')",
+                Integer.class)).isEqualTo(count);
+
+        String sectionName = sectionRepository.findById(1L).orElseThrow().getName();
+        verify(activityService).publish(any(), eq(TASK_CREATED), eq("Created %d tasks in section %s".formatted(count, sectionName)));
+    }
+
+    @Test
+    void createTasks_whenLabelBelongsToAnotherBoard_shouldThrowObjectNotFoundException() {
+        var request = new BulkCreateTasksRequest(1L, List.of(new BulkTaskItem("Imported", null, null, null, Set.of(3L))));
+
+        assertThatThrownBy(() -> taskService.createTasks(request))
+                .isInstanceOf(ObjectNotFoundException.class);
+    }
+
+    @Test
+    @WithMockUser(id = 1L, username = "john_doe")
+    void createTasks_whenUserCannotEditSection_shouldThrowAccessDeniedException() {
+        var request = new BulkCreateTasksRequest(1L, List.of(new BulkTaskItem("Imported", null, null, null, null)));
+
+        assertThatThrownBy(() -> taskService.createTasks(request))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
     @Test
     void updateTask_whenValidRequest_shouldUpdateTaskAndPublishActivity() {
         var request = new UpdateTaskRequest("Renamed Task", "Updated desc", LocalDateTime.now(), Set.of(2L));
@@ -289,6 +507,31 @@ public class TaskServiceIT extends IntegrationTestBase {
         verify(activityService).publish(any(), eq(TASK_MOVED), eq("Moved task from section To Do to " + targetSection.getName()));
     }
 
+    @Test
+    void moveTask_whenMovingToAnotherBoard_shouldRevokeAccessOfOldBoardMembers() {
+        jdbcTemplate.update("INSERT INTO section (id, name, board_id, created, updated) VALUES (10, 'Backlog', 3, NOW(), NOW())");
+        assertThat(resourceAccessService.canEditTask(1L, 3L)).isTrue();
+
+        taskService.moveTask(1L, new MoveTaskRequest(10L, null, null));
+
+        assertThat(resourceAccessService.canEditTask(1L, 3L)).isFalse();
+        assertThat(resourceAccessService.canEditTask(1L, 2L)).isTrue();
+    }
+
+    @Test
+    void canEditTask_whenHierarchyIsCached_shouldNotQueryDatabase() {
+        assertThat(resourceAccessService.canEditTasks(List.of(1L, 2L, 3L), 2L)).isTrue();
+        assertThat(resourceAccessService.canEditSection(1L, 2L)).isTrue();
+        SqlStatementRecorder.clear();
+
+        assertThat(resourceAccessService.canViewTask(1L, 2L)).isTrue();
+        assertThat(resourceAccessService.canToggleTask(2L, 2L)).isTrue();
+        assertThat(resourceAccessService.canEditTasks(Set.of(1L, 3L), 2L)).isTrue();
+        assertThat(resourceAccessService.canViewSection(1L, 2L)).isTrue();
+
+        assertThat(SqlStatementRecorder.getStatements()).isEmpty();
+    }
+
     @Test
     void moveTask_whenMovingWithinSection_shouldUpdatePosition() {
         var request = new MoveTaskRequest(1L, null, 2L); // move task 1 before task 2
@@ -296,6 +539,129 @@ public class TaskServiceIT extends IntegrationTestBase {
         TaskPreviewResponse response = taskService.moveTask(1L, request);
 
         assertThat(response).isNotNull();
+        assertThat(taskRepository.findById(1L).orElseThrow().getPosition()).isLessThan("2");
+    }
+
+    @Test
+    void moveTask_whenRepeatedlyDroppedIntoSameGap_shouldKeepOrderWithoutRewritingNeighbours() {
+        long moving = 3L;
+        long anchor = 2L;
+
+        for (int i = 0; i < 50; i++) {
+            taskService.moveTask(moving, new MoveTaskRequest(1L, 1L, anchor));
+            entityManager.flush();
+
+            long previous = moving;
+            moving = anchor;
+            anchor = previous;
+        }
+        entityManager.clear();
+
+        List<Task> ordered = taskRepository.findAllById(List.of(1L, 2L, 3L)).stream()
+                .sorted(Comparator.comparing(Task::getPosition))
+                .toList();
+
+        assertThat(ordered.getFirst().getId()).isEqualTo(1L);
+        assertThat(ordered.getFirst().getPosition()).isEqualTo("1");
+        assertThat(ordered.get(1).getPosition()).isLessThan(ordered.get(2).getPosition());
+    }
+
+    @Test
+    void moveTask_whenPrevAndNextShareSamePosition_shouldSpreadThemAndDropBetween() {
+        jdbcTemplate.update("UPDATE task SET position = '2' WHERE id = 3");
+
+        taskService.moveTask(1L, new MoveTaskRequest(1L, 2L, 3L));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ordered = taskRepository.findAllById(List.of(1L, 2L, 3L)).stream()
+                .sorted(Comparator.comparing(Task::getPosition))
+                .map(Task::getId)
+                .toList();
+
+        assertThat(ordered).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void moveTask_whenTasksLieBetweenPrevAndNext_shouldDropRightAfterPrevWithoutReusingTakenPosition() {
+        jdbcTemplate.update("""
+                INSERT INTO task (id, title, description, is_completed, position, section_id, created, updated)
+                VALUES (4, 'Dropped Task', 'Description 4', FALSE, '4', 1, NOW(), NOW())
+                """);
+
+        taskService.moveTask(4L, new MoveTaskRequest(1L, 1L, 3L));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Task> tasks = taskRepository.findAllById(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(tasks)
+                .extracting(Task::getPosition)
+                .doesNotHaveDuplicates();
+        assertThat(tasks.stream()
+                .sorted(Comparator.comparing(Task::getPosition))
+                .map(Task::getId)
+                .toList())
+                .containsExactly(1L, 4L, 2L, 3L);
+    }
+
+    @Test
+    void moveTask_whenPrevIsPlacedAfterNext_shouldThrowTaskMoveException() {
+        var request = new MoveTaskRequest(1L, 3L, 2L);
+
+        assertThatThrownBy(() -> taskService.moveTask(1L, request))
+                .isInstanceOf(TaskMoveException.class);
+    }
+
+    @Test
+    void moveTasks_whenMovingSelectionToAnotherSection_shouldKeepRequestedOrderAndPublishOneActivity() {
+        Section targetSection = sectionRepository.findById(2L).orElseThrow();
+        var request = new MoveTasksRequest(List.of(2L, 1L), 2L, null, null);
+
+        List<TaskPreviewResponse> actual = taskService.moveTasks(request);
+
+        assertThat(actual)
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(2L, 1L);
+        assertThat(actual)
+                .extracting(TaskPreviewResponse::sectionId)
+                .containsOnly(2L);
+
+        entityManager.clear();
+        List<Task> moved = taskRepository.findAllById(List.of(1L, 2L));
+        Task task1 = moved.stream().filter(task -> task.getId().equals(1L)).findFirst().orElseThrow();
+        Task task2 = moved.stream().filter(task -> task.getId().equals(2L)).findFirst().orElseThrow();
+
+        assertThat(task2.getPosition()).isLessThan(task1.getPosition());
+
+        verify(activityService).publish(any(), eq(TASK_MOVED), eq("Moved 2 tasks to section " + targetSection.getName()));
+    }
+
+    @Test
+    void moveTasks_whenPlacedBeforeTaskInSameSection_shouldNotPublishActivity() {
+        var request = new MoveTasksRequest(List.of(3L, 2L), 1L, null, 1L);
+
+        List<TaskPreviewResponse> actual = taskService.moveTasks(request);
+
+        assertThat(actual)
+                .extracting(TaskPreviewResponse::id)
+                .containsExactly(3L, 2L);
+
+        entityManager.clear();
+        String firstPosition = taskRepository.findById(1L).orElseThrow().getPosition();
+        assertThat(taskRepository.findById(3L).orElseThrow().getPosition()).isLessThan(firstPosition);
+        assertThat(taskRepository.findById(2L).orElseThrow().getPosition()).isLessThan(firstPosition);
+
+        verify(activityService, never()).publish(any(), eq(TASK_MOVED), anyString());
+    }
+
+    @Test
+    @WithMockUser(id = 1L, username = "john_doe")
+    void moveTasks_whenUserCannotEditAllTasks_shouldThrowAccessDeniedException() {
+        var request = new MoveTasksRequest(List.of(1L, 2L), 2L, null, null);
+
+        assertThatThrownBy(() -> taskService.moveTasks(request))
+                .isInstanceOf(AccessDeniedException.class);
     }
 
     @Test
@@ -339,6 +705,101 @@ public class TaskServiceIT extends IntegrationTestBase {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    @Test
+    void applyBulkOperation_whenCompletingTasks_shouldUpdateAllAndPublishOneActivity() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L, 3L), BulkTaskOperation.COMPLETE, null, null);
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertThat(actual.affected()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task WHERE id IN (1, 2, 3) AND is_completed", Integer.class)).isEqualTo(3);
+        verify(activityService).publish(any(), eq(TASK_COMPLETED), eq("Completed 3 tasks"));
+    }
+
+    @Test
+    void applyBulkOperation_whenAddingLabelTwice_shouldInsertMissingRowsOnly() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.ADD_LABEL, 1L, null);
+        taskService.applyBulkOperation(new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ADD_LABEL, 1L, null));
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertThat(actual.affected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT task_id FROM tasks_labels WHERE label_id = 1 ORDER BY task_id", Long.class))
+                .containsExactly(1L, 2L);
+        verify(activityService).publish(any(), eq(TASK_LABEL_ADDED), eq("Added label Bug to 1 tasks"));
+    }
+
+    @Test
+    void applyBulkOperation_whenLabelBelongsToAnotherBoard_shouldThrowCrossBoardOperationException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ADD_LABEL, 3L, null);
+
+        assertThatThrownBy(() -> taskService.applyBulkOperation(request))
+                .isInstanceOf(CrossBoardOperationException.class);
+    }
+
+    @Test
+    void applyBulkOperation_whenAssigningAndUnassigning_shouldChangeOnlyAffectedPairs() {
+        var assign = new BulkTaskOperationRequest(Set.of(1L, 2L, 3L), BulkTaskOperation.ASSIGN, null, Set.of(3L));
+        var unassign = new BulkTaskOperationRequest(Set.of(1L, 2L, 3L), BulkTaskOperation.UNASSIGN, null, Set.of(3L));
+
+        assertThat(taskService.applyBulkOperation(assign).affected()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_assignee WHERE user_id = 3", Integer.class)).isEqualTo(3);
+
+        assertThat(taskService.applyBulkOperation(unassign).affected()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_assignee WHERE user_id = 3", Integer.class)).isZero();
+    }
+
+    @Test
+    void applyBulkOperation_whenAssigningPastAssigneeLimit_shouldThrowAssigneeLimitExceededException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.ASSIGN, null, Set.of(3L));
+        int maxAssignees = appProperties.getTask().getMaxAssignees();
+        appProperties.getTask().setMaxAssignees(2);
+
+        try {
+            assertThatThrownBy(() -> taskService.applyBulkOperation(request))
+                    .isInstanceOf(AssigneeLimitExceededException.class);
+        } finally {
+            appProperties.getTask().setMaxAssignees(maxAssignees);
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_assignee WHERE user_id = 3", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void applyBulkOperation_whenAssigningNonMember_shouldThrowInvalidTaskAssigneeException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ASSIGN, null, Set.of(99L));
+
+        assertThatThrownBy(() -> taskService.applyBulkOperation(request))
+                .isInstanceOf(InvalidTaskAssigneeException.class);
+    }
+
+    @Test
+    void applyBulkOperation_whenDeletingTasks_shouldRemoveThemAndCleanupAttachmentsOnce() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.DELETE, null, null);
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertThat(actual.affected()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM task WHERE section_id = 1", Long.class))
+                .containsExactly(3L);
+        verify(resourceCleanupService).cleanupFiles(List.of("attachments/1/spec.pdf"));
+        verify(activityService).publish(any(), eq(TASK_DELETED), eq("Deleted 2 tasks"));
+    }
+
+    @Test
+    @WithMockUser(id = 1L, username = "john_doe")
+    void applyBulkOperation_whenUserCannotEditAllTasks_shouldThrowAccessDeniedException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.DELETE, null, null);
+
+        assertThatThrownBy(() -> taskService.applyBulkOperation(request))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
     @Test
     void addLabelToTask_whenValid_shouldAddLabelAndPublishActivity() {
         TaskPreviewResponse response = taskService.addLabelToTask(1L, 1L);
@@ -411,4 +872,49 @@ public class TaskServiceIT extends IntegrationTestBase {
         assertThatThrownBy(() -> taskService.deleteLabelFromTask(1L, 1L))
                 .isInstanceOf(AccessDeniedException.class);
     }
+
+    private void seedLabeledTasks(Long sectionId, int count, int positionOffset) {
+        Section section = sectionRepository.getReferenceById(sectionId);
+        Label label = labelRepository.getReferenceById(1L);
+
+        List<Task> tasks = IntStream.range(positionOffset, positionOffset + count)
+                .mapToObj(i -> {
+                    Task task = new Task();
+                    task.setTitle("Seeded Task " + i);
+                    task.setIsCompleted(false);
+                    task.setPosition("%09di".formatted(i + 1));
+                    task.setSection(section);
+                    task.getLabels().add(label);
+                    return task;
+                })
+                .toList();
+
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long loadFirstPageAndCountTaskLoads(Long sectionId, long expectedTotal) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        SqlStatementRecorder.clear();
+
+        Page<TaskPreviewResponse> actual = taskService.getTasks(sectionId, PageRequest.of(0, 5, Sort.by("position")));
+
+        assertThat(actual.getTotalElements()).isEqualTo(expectedTotal);
+        assertThat(actual.getContent())
+                .hasSize(5)
+                .allSatisfy(task -> assertThat(task.labels()).hasSize(1));
+        assertThat(SqlStatementRecorder.getStatements())
+                .anySatisfy(sql -> assertThat(sql.toLowerCase())
+                        .contains("from task")
+                        .containsPattern("(limit|fetch first) \\?"));
+
+        long taskLoads = statistics.getEntityStatistics(Task.class.getName()).getLoadCount();
+        entityManager.clear();
+
+        return taskLoads;
+    }
 }
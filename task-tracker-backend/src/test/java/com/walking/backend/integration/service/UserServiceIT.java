@@ -19,6 +19,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.access.AccessDeniedException;
 
@@ -40,6 +41,7 @@ public class UserServiceIT extends IntegrationTestBase {
 
     private final MinioTestHelper minioTestHelper;
     private final AppProperties appProperties;
+    private final JdbcTemplate jdbcTemplate;
 
     @Test
     void searchUsersToInvite_whenUserIsBoardMember_shouldReturnFilteredPage() {
@@ -75,6 +77,27 @@ public class UserServiceIT extends IntegrationTestBase {
         assertThat(result.getTotalElements()).isZero();
     }
 
+    @Test
+    void searchUsersToInvite_whenQueryContainsWildcards_shouldMatchThemLiterally() {
+        var pageable = PageRequest.of(0, 10);
+
+        Page<UserSearchResponse> actual = userService.searchUsersToInvite(1L, "j_hn", pageable);
+
+        assertThat(actual.getContent()).isEmpty();
+    }
+
+    @Test
+    void searchUsersToInvite_whenSequentialScanDisabled_shouldUseTrigramIndexes() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT id FROM users
+                WHERE lower(username) LIKE 'john%' OR lower(email) LIKE 'john%'
+                """, String.class));
+
+        assertThat(plan).contains("idx_users_username_trgm", "idx_users_email_trgm");
+    }
+
     @Test
     void getCurrentUserProfileById_whenUserExists_shouldReturnProfile() {
         UserProfileResponse actual = userService.getCurrentUserProfileById(2L);
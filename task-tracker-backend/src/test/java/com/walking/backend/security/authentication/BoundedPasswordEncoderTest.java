@@ -0,0 +1,91 @@
+package com.walking.backend.security.authentication;
+
+import com.walking.backend.domain.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void matches_whenPoolIsIdle_shouldDelegateToEncoder() {
+        var encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("Password123");
+
+        assertTrue(encoder.matches("Password123", encoded));
+        assertFalse(encoder.matches("Password321", encoded));
+    }
+
+    @Test
+    void matches_whenPoolIsSaturated_shouldRejectWithTooManyRequestsException() throws Exception {
+        var encoder = new BoundedPasswordEncoder(blockingEncoder(), executor, Duration.ofSeconds(5));
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            caller.submit(() -> encoder.matches("Password123", "hash"));
+
+            while (executor.getActiveCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(TooManyRequestsException.class, () -> encoder.matches("Password123", "hash"));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void encode_whenHashingExceedsTimeout_shouldRejectWithTooManyRequestsException() {
+        var encoder = new BoundedPasswordEncoder(blockingEncoder(), executor, Duration.ofMillis(50));
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("Password123"));
+    }
+
+    @Test
+    void upgradeEncoding_whenStoredCostIsLower_shouldRequestRehash() {
+        var encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(10), executor, Duration.ofSeconds(5));
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Password123")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(10).encode("Password123")));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return true;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.walking.backend.security.authentication;
+
+import com.walking.backend.domain.exception.AuthException;
+import com.walking.backend.props.AppProperties;
+import com.walking.backend.security.principal.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtServiceTest {
+    private static final String OLD_SECRET = "561682d4542888bff103da893bef90930dd3942892a543fc2679482a5764c6a0";
+    private static final String NEW_SECRET = "0a6c4675a2849762cf3492dd03939dd09fe3b03988b2445dff3982245d286165";
+    private static final CustomUserDetails USER = new CustomUserDetails(1L, "john_doe", "john.doe@example.com", null);
+
+    @Test
+    void extractUserDetails_whenSignedWithCurrentKey_shouldReturnPrincipal() {
+        JwtService jwtService = buildJwtService("2025-02", NEW_SECRET, Map.of());
+
+        assertEquals(USER, jwtService.extractUserDetails(jwtService.generateAccessToken(USER)));
+    }
+
+    @Test
+    void extractUserDetails_whenSignedWithPreviousKey_shouldStillVerifyAfterRotation() {
+        String token = buildJwtService("2025-01", OLD_SECRET, Map.of()).generateAccessToken(USER);
+
+        JwtService rotated = buildJwtService("2025-02", NEW_SECRET, Map.of("2025-01", OLD_SECRET));
+
+        assertEquals(USER, rotated.extractUserDetails(token));
+    }
+
+    @Test
+    void extractUserDetails_whenSigningKeyWasRetired_shouldThrowAuthException() {
+        String token = buildJwtService("2025-01", OLD_SECRET, Map.of()).generateAccessToken(USER);
+
+        JwtService rotated = buildJwtService("2025-02", NEW_SECRET, Map.of());
+
+        assertThrows(AuthException.class, () -> rotated.extractUserDetails(token));
+    }
+
+    @Test
+    void extractUserDetails_whenTokenHasNoKeyId_shouldVerifyWithCurrentKey() {
+        JwtService jwtService = buildJwtService("2025-02", NEW_SECRET, Map.of());
+        String token = Jwts.builder()
+                .subject(USER.username())
+                .claim("uid", USER.id())
+                .claim("email", USER.email())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(NEW_SECRET)))
+                .compact();
+
+        assertEquals(USER, jwtService.extractUserDetails(token));
+    }
+
+    @Test
+    void requireAccessToken_whenAccessToken_shouldAccept() {
+        JwtService jwtService = buildJwtService("2025-02", NEW_SECRET, Map.of());
+        Claims claims = jwtService.extractAllClaims(jwtService.generateAccessToken(USER));
+
+        assertDoesNotThrow(() -> jwtService.requireAccessToken(claims));
+    }
+
+    @Test
+    void requireAccessToken_whenRefreshToken_shouldThrowAuthException() {
+        JwtService jwtService = buildJwtService("2025-02", NEW_SECRET, Map.of());
+        Claims claims = jwtService.extractAllClaims(jwtService.generateRefreshToken(USER, "session-id"));
+
+        assertThrows(AuthException.class, () -> jwtService.requireAccessToken(claims));
+    }
+
+    private JwtService buildJwtService(String keyId, String secret, Map<String, String> previousKeys) {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Security.Jwt jwt = appProperties.getSecurity().getJwt();
+        jwt.setKeyId(keyId);
+        jwt.setSecret(secret);
+        jwt.setPreviousKeys(previousKeys);
+        jwt.setAccessTokenExpiration(15);
+        jwt.setRefreshTokenExpiration(60);
+
+        return new JwtService(appProperties, new JwtKeyRing(appProperties));
+    }
+}
@@ -0,0 +1,63 @@
+package com.walking.backend.security.ratelimit;
+
+import com.walking.backend.props.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TokenBucketRateLimiterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tryConsume_whenRedisIsUnavailable_shouldFallBackToLocalBucket() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("Redis is down");
+        });
+        var rateLimiter = new TokenBucketRateLimiter(redisTemplate, meterRegistry, appProperties());
+        AppProperties.Security.RateLimit.Rule rule = rule(2);
+
+        assertEquals(Duration.ZERO, rateLimiter.tryConsume(rule, "user:1"));
+        assertEquals(Duration.ZERO, rateLimiter.tryConsume(rule, "user:1"));
+        assertTrue(rateLimiter.tryConsume(rule, "user:1").isPositive());
+        assertEquals(Duration.ZERO, rateLimiter.tryConsume(rule, "user:2"));
+
+        assertEquals(1, meterRegistry.counter("rate_limit.rejected", "rule", "search").count());
+        assertEquals(4, meterRegistry.counter("rate_limit.local_fallback", "rule", "search").count());
+    }
+
+    @Test
+    void tryConsume_whenTokensAreRefilled_shouldAllowAgain() {
+        var bucket = new LocalTokenBucket(1, Duration.ofSeconds(1));
+        long now = System.nanoTime();
+
+        assertEquals(Duration.ZERO, bucket.tryConsume(now));
+        assertTrue(bucket.tryConsume(now).isPositive());
+        assertEquals(Duration.ZERO, bucket.tryConsume(now + Duration.ofSeconds(1).toNanos()));
+    }
+
+    private AppProperties appProperties() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Security.RateLimit rateLimit = appProperties.getSecurity().getRateLimit();
+        rateLimit.setKeyPrefix("rate-limit:");
+        rateLimit.setSlowCallThreshold(Duration.ofMillis(50));
+        rateLimit.setFallbackPeriod(Duration.ofSeconds(10));
+        rateLimit.setLocalMaxBuckets(100);
+
+        return appProperties;
+    }
+
+    private AppProperties.Security.RateLimit.Rule rule(int capacity) {
+        AppProperties.Security.RateLimit.Rule rule = new AppProperties.Security.RateLimit.Rule();
+        rule.setName("search");
+        rule.setCapacity(capacity);
+        rule.setRefillPeriod(Duration.ofMinutes(1));
+
+        return rule;
+    }
+}
@@ -6,6 +6,7 @@ import com.walking.backend.domain.dto.auth.SignUpRequest;
 import com.walking.backend.domain.dto.kafka.MessageDto;
 import com.walking.backend.domain.dto.user.UserResponse;
 import com.walking.backend.domain.exception.AuthException;
+import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.security.authentication.TokenService;
 import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.impl.AuthServiceImpl;
@@ -61,7 +62,7 @@ public class AuthServiceTest {
 
         doReturn(userResponse).when(userService).createUser(signUpRequest);
         doNothing().when(kafkaProducerService).sendMessageDto(anyLong(), any(MessageDto.class));
-        doReturn(authResponse).when(tokenService).generateTokens(userResponse.username(), userResponse.id(), response);
+        doReturn(authResponse).when(tokenService).generateTokens(toUserDetails(userResponse), response);
 
         AuthResponse actual = authService.signUp(signUpRequest, response);
 
@@ -70,7 +71,7 @@ public class AuthServiceTest {
 
         verify(userService).createUser(signUpRequest);
         verify(kafkaProducerService).sendMessageDto(anyLong(), any(MessageDto.class));
-        verify(tokenService).generateTokens(userResponse.username(), userResponse.id(), response);
+        verify(tokenService).generateTokens(toUserDetails(userResponse), response);
     }
 
     @Test
@@ -81,7 +82,7 @@ public class AuthServiceTest {
 
         verify(userService).createUser(any(SignUpRequest.class));
         verify(kafkaProducerService, never()).sendMessageDto(anyLong(), any(MessageDto.class));
-        verify(tokenService, never()).generateTokens(anyString(), anyLong(), any());
+        verify(tokenService, never()).generateTokens(any(), any());
     }
 
     @Test
@@ -96,7 +97,7 @@ public class AuthServiceTest {
 
         verify(userService).createUser(signUpRequest);
         verify(kafkaProducerService).sendMessageDto(anyLong(), any(MessageDto.class));
-        verify(tokenService, never()).generateTokens(anyString(), anyLong(), any());
+        verify(tokenService, never()).generateTokens(any(), any());
     }
 
     @Test
@@ -106,7 +107,7 @@ public class AuthServiceTest {
         AuthResponse authResponse = getAuthResponse();
 
         doReturn(userResponse).when(userService).createUser(signUpRequest);
-        doReturn(authResponse).when(tokenService).generateTokens(userResponse.username(), userResponse.id(), response);
+        doReturn(authResponse).when(tokenService).generateTokens(toUserDetails(userResponse), response);
 
         authService.signUp(signUpRequest, response);
 
@@ -128,9 +129,8 @@ public class AuthServiceTest {
 
         doReturn(authentication).when(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         doReturn(customUserDetails).when(authentication).getPrincipal();
-        doNothing().when(tokenService).deleteRefreshToken(anyLong());
         doReturn(authResponse).when(tokenService)
-                .generateTokens(customUserDetails.username(), customUserDetails.id(), response);
+                .generateTokens(customUserDetails, response);
 
         AuthResponse actual = authService.signIn(signInRequest, response);
 
@@ -139,8 +139,7 @@ public class AuthServiceTest {
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(authentication).getPrincipal();
-        verify(tokenService).deleteRefreshToken(anyLong());
-        verify(tokenService).generateTokens(customUserDetails.username(), customUserDetails.id(), response);
+        verify(tokenService).generateTokens(customUserDetails, response);
     }
 
     @Test
@@ -153,8 +152,7 @@ public class AuthServiceTest {
         assertThrows(AuthException.class, () -> authService.signIn(signInRequest, response));
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(tokenService, never()).deleteRefreshToken(anyLong());
-        verify(tokenService, never()).generateTokens(anyString(), anyLong(), any(HttpServletResponse.class));
+        verify(tokenService, never()).generateTokens(any(), any(HttpServletResponse.class));
     }
 
     @Test
@@ -181,6 +179,24 @@ public class AuthServiceTest {
         verify(tokenService).validateAndRefreshToken(anyString(), any());
     }
 
+    @Test
+    void revokeSession_whenSessionNotFound_shouldThrowObjectNotFoundException() {
+        doReturn(false).when(tokenService).revokeSession(ID, "missing");
+
+        assertThrows(ObjectNotFoundException.class, () -> authService.revokeSession(ID, "missing"));
+
+        verify(tokenService).revokeSession(ID, "missing");
+    }
+
+    @Test
+    void revokeSession_whenSessionExists_shouldRevokeIt() {
+        doReturn(true).when(tokenService).revokeSession(ID, "session");
+
+        authService.revokeSession(ID, "session");
+
+        verify(tokenService).revokeSession(ID, "session");
+    }
+
     private AuthResponse getAuthResponse() {
         return new AuthResponse(ACCESS_TOKEN);
     }
@@ -196,4 +212,8 @@ public class AuthServiceTest {
     private UserResponse getUserResponse() {
         return new UserResponse(ID, USERNAME, EMAIL);
     }
+
+    private CustomUserDetails toUserDetails(UserResponse userResponse) {
+        return new CustomUserDetails(userResponse.id(), userResponse.username(), userResponse.email(), null);
+    }
 }
@@ -11,6 +11,7 @@ import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.*;
 import com.walking.backend.repository.BoardMemberRepository;
 import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.BoardRoleCache;
 import com.walking.backend.security.principal.CustomUserDetails;
 import com.walking.backend.service.impl.BoardMemberServiceImpl;
 import com.walking.backend.service.mapper.boardMember.BoardMemberResponseMapper;
@@ -58,6 +59,9 @@ class BoardMemberServiceTest {
     @Mock
     private ActivityService activityService;
 
+    @Mock
+    private BoardRoleCache boardRoleCache;
+
     @Mock
     private BoardMemberResponseMapper boardMemberResponseMapper;
 
@@ -155,6 +159,7 @@ class BoardMemberServiceTest {
 
         verify(boardMemberRepository).existsByIdBoardIdAndIdUserId(ID, boardMemberRequest.userId());
         verify(boardMemberRepository).flush();
+        verify(boardRoleCache).invalidate(List.of(user.getId()));
 
         ArgumentCaptor<MessageDto> captor = ArgumentCaptor.forClass(MessageDto.class);
         verify(kafkaProducerService).sendMessageDto(eq(ID), captor.capture());
@@ -201,6 +206,7 @@ class BoardMemberServiceTest {
 
         verify(taskRepository).removeAssigneeFromBoardTasks(board.getId(), user.getId());
         verify(boardMemberRepository).delete(member);
+        verify(boardRoleCache).invalidate(List.of(user.getId()));
         verify(activityService).publish(board, MEMBER_REMOVED, "Removed member Re23");
     }
 
@@ -242,6 +248,7 @@ class BoardMemberServiceTest {
         assertEquals(EDITOR, member.getRole());
 
         verify(boardMemberRepository).flush();
+        verify(boardRoleCache).invalidate(List.of(user.getId()));
         verify(activityService).publish(board, MEMBER_ROLE_CHANGED,
                 "Changed role for %s from OWNER to EDITOR".formatted(user.getUsername()));
         verify(boardMemberResponseMapper).toDto(member);
@@ -272,6 +279,7 @@ class BoardMemberServiceTest {
         verify(boardMemberRepository).countByIdBoardIdAndRole(ID, OWNER);
         verify(taskRepository, never()).removeAssigneeFromBoardTasks(any(), any());
         verify(boardMemberRepository, never()).delete(any(BoardMember.class));
+        verifyNoInteractions(boardRoleCache);
     }
 
     @Test
@@ -287,6 +295,7 @@ class BoardMemberServiceTest {
         verify(boardMemberRepository).countByIdBoardIdAndRole(ID, OWNER);
         verify(taskRepository).removeAssigneeFromBoardTasks(ID, ID);
         verify(boardMemberRepository).delete(member);
+        verify(boardRoleCache).invalidate(List.of(ID));
     }
 
     private BoardMemberResponse buildBoardMemberResponse(Long userId) {
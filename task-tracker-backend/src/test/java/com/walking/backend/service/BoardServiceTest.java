@@ -1,15 +1,29 @@
 package com.walking.backend.service;
 
 import com.walking.backend.audit.service.ActivityService;
+import com.walking.backend.audit.service.BoardLookupService;
 import com.walking.backend.domain.dto.board.BoardRequest;
 import com.walking.backend.domain.dto.board.BoardResponse;
+import com.walking.backend.domain.dto.board.BoardSnapshotResponse;
+import com.walking.backend.domain.dto.label.LabelResponse;
+import com.walking.backend.domain.dto.section.SectionResponse;
+import com.walking.backend.domain.dto.task.TaskPreviewResponse;
+import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.*;
+import com.walking.backend.domain.projection.BoardInfo;
+import com.walking.backend.domain.projection.TaskLabelProjection;
+import com.walking.backend.domain.projection.TaskPreviewProjection;
+import com.walking.backend.repository.BoardMemberRepository;
 import com.walking.backend.repository.BoardRepository;
+import com.walking.backend.repository.SectionRepository;
 import com.walking.backend.repository.TaskAttachmentRepository;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.BoardRoleCache;
 import com.walking.backend.service.impl.BoardServiceImpl;
 import com.walking.backend.service.mapper.board.BoardRequestMapper;
 import com.walking.backend.service.mapper.board.BoardResponseMapper;
+import com.walking.backend.service.mapper.task.TaskPreviewResponseMapper;
 import com.walking.backend.storage.service.ResourceCleanupService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +37,7 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.walking.backend.domain.model.ActivityType.BOARD_DELETED;
@@ -40,6 +55,15 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardMemberRepository boardMemberRepository;
+
+    @Mock
+    private SectionRepository sectionRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
     @Mock
     private TaskAttachmentRepository taskAttachmentRepository;
 
@@ -52,12 +76,21 @@ class BoardServiceTest {
     @Mock
     private ResourceCleanupService resourceCleanupService;
 
+    @Mock
+    private BoardRoleCache boardRoleCache;
+
+    @Mock
+    private BoardLookupService boardLookupService;
+
     @Mock
     private BoardRequestMapper boardRequestMapper;
 
     @Mock
     private BoardResponseMapper boardResponseMapper;
 
+    @Mock
+    private TaskPreviewResponseMapper taskPreviewResponseMapper;
+
     @InjectMocks
     private BoardServiceImpl boardService;
 
@@ -88,6 +121,51 @@ class BoardServiceTest {
         verify(boardResponseMapper).toDto(board2);
     }
 
+    @Test
+    void getBoardSnapshot_whenValidRequestData_shouldGroupOrderedTasksBySection() {
+        var now = LocalDateTime.now();
+        var todo = new SectionResponse(1L, "To Do", ID, now, now);
+        var done = new SectionResponse(2L, "Done", ID, now, now);
+        var task1 = new TaskPreviewProjection(10L, "First", false, null, 1L, now, now);
+        var task2 = new TaskPreviewProjection(11L, "Second", false, null, 1L, now, now);
+        var label = new LabelResponse(5L, "Bug", "RED", ID);
+        var assignee = new UserShortResponse(3L, USERNAME, USERNAME, null);
+        var preview1 = new TaskPreviewResponse(10L, "First", false, null, 1L, List.of(label), List.of(assignee), now, now);
+        var preview2 = new TaskPreviewResponse(11L, "Second", false, null, 1L, List.of(), List.of(), now, now);
+
+        doReturn(new BoardInfo(ID, "Board RE4")).when(boardRepository).findBoardInfoById(ID);
+        doReturn(List.of(todo, done)).when(sectionRepository).findSectionResponsesByBoardId(ID);
+        doReturn(List.of(task1, task2)).when(taskRepository).findTaskPreviewsByBoardId(ID);
+        doReturn(List.of(new TaskLabelProjection(10L, 5L, "Bug", "RED", ID)))
+                .when(taskRepository).findTaskLabelsByBoardId(ID);
+        doReturn(Map.of(10L, List.of(assignee))).when(userService).getAssigneeByBoardId(ID);
+        doReturn(preview1).when(taskPreviewResponseMapper).toDto(task1, List.of(label), List.of(assignee));
+        doReturn(preview2).when(taskPreviewResponseMapper).toDto(task2, List.of(), List.of());
+
+        BoardSnapshotResponse actual = boardService.getBoardSnapshot(ID);
+
+        assertEquals(ID, actual.id());
+        assertEquals("Board RE4", actual.name());
+        assertEquals(2, actual.sections().size());
+        assertEquals(List.of(preview1, preview2), actual.sections().get(0).tasks());
+        assertTrue(actual.sections().get(1).tasks().isEmpty());
+
+        verify(boardRepository).findBoardInfoById(ID);
+        verify(sectionRepository).findSectionResponsesByBoardId(ID);
+        verify(taskRepository).findTaskPreviewsByBoardId(ID);
+        verify(taskRepository).findTaskLabelsByBoardId(ID);
+        verify(userService).getAssigneeByBoardId(ID);
+    }
+
+    @Test
+    void getBoardSnapshot_whenBoardNotFound_shouldThrowObjectNotFoundException() {
+        doReturn(null).when(boardRepository).findBoardInfoById(ID);
+
+        assertThrows(ObjectNotFoundException.class, () -> boardService.getBoardSnapshot(ID));
+
+        verifyNoInteractions(sectionRepository, taskRepository, taskPreviewResponseMapper);
+    }
+
     @Test
     void createBoard_whenValidRequestData_shouldCreateBoardAndReturnBoardResponse() {
         var boardRequest = getBoardRequest();
@@ -115,6 +193,7 @@ class BoardServiceTest {
         verify(boardRequestMapper).toEntity(boardRequest);
         verify(userService).getProxyUserById(ID);
         verify(boardRepository).save(board);
+        verify(boardRoleCache).invalidate(List.of(ID));
         verify(boardResponseMapper).toDto(board);
     }
 
@@ -135,6 +214,7 @@ class BoardServiceTest {
 
         verify(boardRepository).findById(ID);
         verify(boardRepository).save(board);
+        verify(boardLookupService).invalidateBoardInfoBySections(ID);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
         verify(activityService).publish(eq(board), eq(BOARD_UPDATED), captor.capture());
@@ -167,12 +247,15 @@ class BoardServiceTest {
 
         doReturn(Optional.of(board)).when(boardRepository).findById(ID);
         doReturn(filePaths).when(taskAttachmentRepository).findAllFilePathByBoardId(ID);
+        doReturn(List.of(ID, 2L)).when(boardMemberRepository).findUserIdsByBoardId(ID);
 
         boardService.deleteBoard(ID);
 
         verify(boardRepository).findById(ID);
         verify(taskAttachmentRepository).findAllFilePathByBoardId(ID);
         verify(boardRepository).delete(board);
+        verify(boardRoleCache).invalidate(List.of(ID, 2L));
+        verify(boardLookupService).invalidateBoardInfoBySections(ID);
         verify(activityService).publish(board, BOARD_DELETED, "Deleted board %s".formatted(board.getName()));
         verify(resourceCleanupService).cleanupFiles(filePaths);
     }
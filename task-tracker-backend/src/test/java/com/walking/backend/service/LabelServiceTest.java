@@ -9,8 +9,10 @@ import com.walking.backend.domain.exception.LabelLimitExceededException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.Board;
 import com.walking.backend.domain.model.Label;
+import com.walking.backend.domain.model.ResourceType;
 import com.walking.backend.props.AppProperties;
 import com.walking.backend.repository.LabelRepository;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.impl.LabelServiceImpl;
 import com.walking.backend.service.mapper.label.CreateLabelRequestMapper;
 import com.walking.backend.service.mapper.label.LabelResponseMapper;
@@ -55,6 +57,9 @@ class LabelServiceTest {
     @Mock
     private LabelResponseMapper labelResponseMapper;
     
+    @Mock
+    private ResourceHierarchyCache resourceHierarchyCache;
+    
     @Mock
     private AppProperties appProperties;
     
@@ -69,7 +74,7 @@ class LabelServiceTest {
         var labelResponse2 = buildLabelResponse(2L, "Bug Report");
 
         doReturn(List.of(label1, label2)).when(labelRepository)
-                .findAllByBoardIdAndNameContainingIgnoreCase(BOARD_ID, LABEL_NAME);
+                .findAllByBoardIdAndNameLike(BOARD_ID, "%bug%");
         doReturn(labelResponse1).when(labelResponseMapper).toDto(label1);
         doReturn(labelResponse2).when(labelResponseMapper).toDto(label2);
 
@@ -78,7 +83,7 @@ class LabelServiceTest {
         assertEquals(List.of(labelResponse1, labelResponse2), actual);
 
         verify(labelRepository, never()).findAllByBoardId(anyLong());
-        verify(labelRepository).findAllByBoardIdAndNameContainingIgnoreCase(BOARD_ID, LABEL_NAME);
+        verify(labelRepository).findAllByBoardIdAndNameLike(BOARD_ID, "%bug%");
         verify(labelResponseMapper, times(2)).toDto(any(Label.class));
     }
 
@@ -100,7 +105,7 @@ class LabelServiceTest {
         assertEquals(List.of(labelResponse1, labelResponse2), actual);
 
         verify(labelRepository).findAllByBoardId(anyLong());
-        verify(labelRepository, never()).findAllByBoardIdAndNameContainingIgnoreCase(anyLong(), anyString());
+        verify(labelRepository, never()).findAllByBoardIdAndNameLike(anyLong(), anyString());
         verify(labelResponseMapper, times(2)).toDto(any(Label.class));
     }
 
@@ -278,6 +283,7 @@ class LabelServiceTest {
 
         verify(labelRepository).findById(label.getId());
         verify(labelRepository).delete(label);
+        verify(resourceHierarchyCache).invalidate(ResourceType.LABEL, List.of(label.getId()));
         verify(activityService).publish(board, LABEL_DELETED, "Deleted label Bug");
     }
     
@@ -7,9 +7,12 @@ import com.walking.backend.domain.dto.section.UpdateSectionRequest;
 import com.walking.backend.domain.exception.DuplicateException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.Board;
+import com.walking.backend.domain.model.ResourceType;
 import com.walking.backend.domain.model.Section;
 import com.walking.backend.repository.SectionRepository;
 import com.walking.backend.repository.TaskAttachmentRepository;
+import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.impl.SectionServiceImpl;
 import com.walking.backend.service.mapper.section.CreateSectionRequestMapper;
 import com.walking.backend.service.mapper.section.SectionResponseMapper;
@@ -44,6 +47,9 @@ class SectionServiceTest {
     @Mock
     private TaskAttachmentRepository taskAttachmentRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
     @Mock
     private BoardService boardService;
 
@@ -53,6 +59,9 @@ class SectionServiceTest {
     @Mock
     private ResourceCleanupService resourceCleanupService;
 
+    @Mock
+    private ResourceHierarchyCache resourceHierarchyCache;
+
     @Mock
     private CreateSectionRequestMapper createSectionRequestMapper;
 
@@ -188,7 +197,7 @@ class SectionServiceTest {
 
         verify(sectionRepository).findById(SECTION_ID);
         verify(sectionRepository, never()).delete(any(Section.class));
-        verifyNoInteractions(taskAttachmentRepository, activityService, resourceCleanupService);
+        verifyNoInteractions(taskAttachmentRepository, taskRepository, activityService, resourceCleanupService);
     }
 
     @Test
@@ -198,12 +207,15 @@ class SectionServiceTest {
 
         doReturn(Optional.of(section)).when(sectionRepository).findById(SECTION_ID);
         doReturn(filePaths).when(taskAttachmentRepository).findAllFilePathBySectionId(section.getId());
+        doReturn(List.of(1L, 2L)).when(taskRepository).findIdsBySectionId(SECTION_ID);
 
         sectionService.deleteSection(SECTION_ID);
 
         verify(sectionRepository).findById(SECTION_ID);
         verify(taskAttachmentRepository).findAllFilePathBySectionId(section.getId());
         verify(sectionRepository).delete(section);
+        verify(resourceHierarchyCache).invalidate(ResourceType.SECTION, List.of(SECTION_ID));
+        verify(resourceHierarchyCache).invalidate(ResourceType.TASK, List.of(1L, 2L));
         verify(activityService).publish(any(Board.class), eq(SECTION_DELETED), eq("Deleted section In Process"));
         verify(resourceCleanupService).cleanupFiles(filePaths);
     }
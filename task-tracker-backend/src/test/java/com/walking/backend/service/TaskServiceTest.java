@@ -5,29 +5,40 @@ import com.walking.backend.domain.dto.task.*;
 import com.walking.backend.domain.dto.user.UserShortResponse;
 import com.walking.backend.domain.exception.*;
 import com.walking.backend.domain.model.*;
+import com.walking.backend.domain.projection.TaskMoveProjection;
+import com.walking.backend.domain.projection.TaskPosition;
+import com.walking.backend.domain.projection.TaskSearchHit;
 import com.walking.backend.props.AppProperties;
+import com.walking.backend.rebalance.service.SectionRebalanceService;
+import com.walking.backend.repository.TaskAttachmentRepository;
 import com.walking.backend.repository.TaskRepository;
+import com.walking.backend.security.authorization.ResourceHierarchyCache;
 import com.walking.backend.service.impl.TaskServiceImpl;
 import com.walking.backend.service.mapper.task.CreateTaskRequestMapper;
 import com.walking.backend.service.mapper.task.TaskFullResponseMapper;
 import com.walking.backend.service.mapper.task.TaskPreviewResponseMapper;
 import com.walking.backend.storage.service.ResourceCleanupService;
+import com.walking.backend.util.TaskCursorCodec;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 import static com.walking.backend.domain.model.ActivityType.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -44,6 +55,9 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskAttachmentRepository taskAttachmentRepository;
+
     @Mock
     private SectionService sectionService;
 
@@ -59,6 +73,12 @@ public class TaskServiceTest {
     @Mock
     private ResourceCleanupService resourceCleanupService;
 
+    @Mock
+    private SectionRebalanceService sectionRebalanceService;
+
+    @Mock
+    private ResourceHierarchyCache resourceHierarchyCache;
+
     @Mock
     private CreateTaskRequestMapper createTaskRequestMapper;
 
@@ -89,6 +109,7 @@ public class TaskServiceTest {
         var taskPreviewResponse2 = buildTaskPreviewResponse(task2, List.of());
 
         doReturn(tasksPage).when(taskRepository).findAll(any(Specification.class), eq(pageable));
+        doReturn(List.of(task2, task1)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
         doReturn(assigneesByTaskId).when(userService).getAssigneeByTaskIds(Set.of(task1.getId(), task2.getId()));
         doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of(assignee1));
         doReturn(taskPreviewResponse2).when(taskPreviewResponseMapper).toDto(task2, List.of());
@@ -99,6 +120,7 @@ public class TaskServiceTest {
         assertEquals(List.of(taskPreviewResponse1, taskPreviewResponse2), actual.getContent());
 
         verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
         verify(userService).getAssigneeByTaskIds(Set.of(task1.getId(), task2.getId()));
         verify(taskPreviewResponseMapper).toDto(task1, List.of(assignee1));
         verify(taskPreviewResponseMapper).toDto(task2, List.of());
@@ -116,6 +138,7 @@ public class TaskServiceTest {
         assertTrue(actual.isEmpty());
 
         verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository, never()).findAllWithLabelsByIdIn(anyList());
         verifyNoInteractions(userService, taskPreviewResponseMapper);
     }
 
@@ -135,6 +158,7 @@ public class TaskServiceTest {
         var taskPreviewResponse2 = buildTaskPreviewResponse(task2, List.of());
 
         doReturn(tasksPage).when(taskRepository).findAll(any(Specification.class), eq(pageable));
+        doReturn(List.of(task2, task1)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
         doReturn(assigneesByTaskId).when(userService).getAssigneeByTaskIds(Set.of(task1.getId(), task2.getId()));
         doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of(assignee1));
         doReturn(taskPreviewResponse2).when(taskPreviewResponseMapper).toDto(task2, List.of());
@@ -145,6 +169,7 @@ public class TaskServiceTest {
         assertEquals(List.of(taskPreviewResponse1, taskPreviewResponse2), actual.getContent());
 
         verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
         verify(userService).getAssigneeByTaskIds(Set.of(task1.getId(), task2.getId()));
         verify(taskPreviewResponseMapper).toDto(task1, List.of(assignee1));
         verify(taskPreviewResponseMapper).toDto(task2, List.of());
@@ -163,6 +188,158 @@ public class TaskServiceTest {
         assertTrue(actual.isEmpty());
 
         verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository, never()).findAllWithLabelsByIdIn(anyList());
+        verifyNoInteractions(userService, taskPreviewResponseMapper);
+    }
+
+    @Test
+    void searchTasks_whenQueryGiven_shouldReturnTasksInRelevanceOrder() {
+        var pageable = PageRequest.of(0, 10);
+        var taskFilter = buildTaskFilterWithQuery("fix bu");
+        var task1 = buildTask(1L, "Fix bug");
+        var task2 = buildTask(2L, "Fix build");
+        var hits = List.of(
+                buildSearchHit(2L, 0.9, "<mark>Fix</mark> <mark>build</mark>"),
+                buildSearchHit(1L, 0.5, "<mark>Fix</mark> <mark>bug</mark>"));
+
+        var taskPreviewResponse1 = buildTaskPreviewResponse(task1, List.of());
+        var taskPreviewResponse2 = buildTaskPreviewResponse(task2, List.of());
+
+        doReturn(2L).when(taskRepository).countFullTextMatches(BOARD_ID, "fix:* & bu:*", taskFilter);
+        doReturn(hits).when(taskRepository).findFullTextMatches(BOARD_ID, "fix:* & bu:*", taskFilter, 10, 0L);
+        doReturn(List.of(task1, task2)).when(taskRepository).findAllWithLabelsByIdIn(List.of(2L, 1L));
+        doReturn(Map.of()).when(userService).getAssigneeByTaskIds(Set.of(1L, 2L));
+        doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of());
+        doReturn(taskPreviewResponse2).when(taskPreviewResponseMapper).toDto(task2, List.of());
+
+        Page<TaskPreviewResponse> actual = taskService.searchTasks(BOARD_ID, taskFilter, pageable);
+
+        assertEquals(2L, actual.getTotalElements());
+        assertEquals(List.of(taskPreviewResponse2, taskPreviewResponse1), actual.getContent());
+
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchTasksRanked_whenQueryHasMatches_shouldReturnHighlightsAndRank() {
+        var pageable = PageRequest.of(0, 10);
+        var taskFilter = buildTaskFilterWithQuery("bug");
+        var task1 = buildTask(1L, "Fix bug");
+        var hit = buildSearchHit(1L, 0.6, "Fix <mark>bug</mark>");
+        var taskPreviewResponse1 = buildTaskPreviewResponse(task1, List.of());
+
+        doReturn(1L).when(taskRepository).countFullTextMatches(BOARD_ID, "bug:*", taskFilter);
+        doReturn(List.of(hit)).when(taskRepository).findFullTextMatches(BOARD_ID, "bug:*", taskFilter, 10, 0L);
+        doReturn(List.of(task1)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L));
+        doReturn(Map.of()).when(userService).getAssigneeByTaskIds(Set.of(1L));
+        doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of());
+
+        Page<TaskSearchResponse> actual = taskService.searchTasksRanked(BOARD_ID, taskFilter, pageable);
+
+        assertEquals(1, actual.getContent().size());
+
+        TaskSearchResponse response = actual.getContent().getFirst();
+        assertEquals(taskPreviewResponse1, response.task());
+        assertEquals(0.6, response.rank());
+        assertEquals("Fix <mark>bug</mark>", response.titleHighlight());
+    }
+
+    @Test
+    void searchTasksRanked_whenQueryHasNoWords_shouldReturnEmptyPageWithoutQueryingDatabase() {
+        var pageable = PageRequest.of(0, 10);
+        var taskFilter = buildTaskFilterWithQuery("!!! ???");
+
+        Page<TaskSearchResponse> actual = taskService.searchTasksRanked(BOARD_ID, taskFilter, pageable);
+
+        assertTrue(actual.isEmpty());
+
+        verifyNoInteractions(taskRepository, userService, taskPreviewResponseMapper);
+    }
+
+    @Test
+    void searchTasksRanked_whenNothingMatches_shouldSkipPageQuery() {
+        var pageable = PageRequest.of(0, 10);
+        var taskFilter = buildTaskFilterWithQuery("nothing");
+
+        doReturn(0L).when(taskRepository).countFullTextMatches(BOARD_ID, "nothing:*", taskFilter);
+
+        Page<TaskSearchResponse> actual = taskService.searchTasksRanked(BOARD_ID, taskFilter, pageable);
+
+        assertTrue(actual.isEmpty());
+
+        verify(taskRepository, never()).findFullTextMatches(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void scrollTasks_whenMoreTasksThanSize_shouldReturnSliceWithNextCursor() {
+        var task1 = buildTask(1L, "Fix bug");
+        task1.setPosition("a");
+        var task2 = buildTask(2L, "Write docs");
+        task2.setPosition("b");
+        var task3 = buildTask(3L, "Deploy");
+        task3.setPosition("c");
+
+        var taskPreviewResponse1 = buildTaskPreviewResponse(task1, List.of());
+        var taskPreviewResponse2 = buildTaskPreviewResponse(task2, List.of());
+
+        doReturn(List.of(task1, task2, task3)).when(taskRepository).findBy(any(Specification.class), any(Function.class));
+        doReturn(List.of(task2, task1)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
+        doReturn(Map.of()).when(userService).getAssigneeByTaskIds(Set.of(1L, 2L));
+        doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of());
+        doReturn(taskPreviewResponse2).when(taskPreviewResponseMapper).toDto(task2, List.of());
+
+        TaskSliceResponse actual = taskService.scrollTasks(SECTION_ID, new TaskCursorRequest(null, 2));
+
+        assertTrue(actual.hasNext());
+        assertEquals(2, actual.size());
+        assertEquals(List.of(taskPreviewResponse1, taskPreviewResponse2), actual.content());
+        assertEquals(TaskCursorCodec.encode("b", 2L), actual.nextCursor());
+
+        verify(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
+        verify(taskPreviewResponseMapper, never()).toDto(eq(task3), anyList());
+    }
+
+    @Test
+    void scrollTasks_whenLastPage_shouldReturnSliceWithoutNextCursor() {
+        var task1 = buildTask(1L, "Fix bug");
+        task1.setPosition("a");
+        var taskPreviewResponse1 = buildTaskPreviewResponse(task1, List.of());
+        var cursor = TaskCursorCodec.encode("5", 7L);
+
+        doReturn(List.of(task1)).when(taskRepository).findBy(any(Specification.class), any(Function.class));
+        doReturn(List.of(task1)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L));
+        doReturn(Map.of()).when(userService).getAssigneeByTaskIds(Set.of(1L));
+        doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of());
+
+        TaskSliceResponse actual = taskService.scrollTasks(SECTION_ID, new TaskCursorRequest(cursor, 2));
+
+        assertFalse(actual.hasNext());
+        assertNull(actual.nextCursor());
+        assertEquals(List.of(taskPreviewResponse1), actual.content());
+    }
+
+    @Test
+    void scrollTasks_whenCursorMalformed_shouldThrowInvalidCursorException() {
+        var taskCursorRequest = new TaskCursorRequest("not-a-cursor", null);
+
+        assertThrows(InvalidCursorException.class, () -> taskService.scrollTasks(SECTION_ID, taskCursorRequest));
+
+        verifyNoInteractions(taskRepository, userService, taskPreviewResponseMapper);
+    }
+
+    @Test
+    void scrollSearchTasks_whenNoTaskMatch_shouldReturnEmptySliceAndSkipAssigneeLookup() {
+        var taskFilter = buildEmptyTaskFilter();
+
+        doReturn(List.of()).when(taskRepository).findBy(any(Specification.class), any(Function.class));
+
+        TaskSliceResponse actual = taskService.scrollSearchTasks(BOARD_ID, taskFilter, new TaskCursorRequest(null, null));
+
+        assertTrue(actual.content().isEmpty());
+        assertFalse(actual.hasNext());
+        assertEquals(50, actual.size());
+
+        verify(taskRepository, never()).findAllWithLabelsByIdIn(anyList());
         verifyNoInteractions(userService, taskPreviewResponseMapper);
     }
 
@@ -239,13 +416,10 @@ public class TaskServiceTest {
         var request = buildCreateTaskRequest(null);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var section = task.getSection();
-        var taskProperties = mock(AppProperties.Task.class);
         var taskFullResponse = buildTaskFullResponse(task, List.of());
 
         doReturn(task).when(createTaskRequestMapper).toEntity(request);
         doReturn(section).when(sectionService).getProxySectionById(request.sectionId());
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(null).when(taskRepository).findMaxPositionBySectionId(request.sectionId());
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskFullResponse).when(taskFullResponseMapper).toDto(task, List.of());
@@ -257,7 +431,7 @@ public class TaskServiceTest {
         assertFalse(task.getIsCompleted());
         assertEquals(section, task.getSection());
         assertTrue(task.getAssignees().isEmpty());
-        assertEquals(15.0, task.getPosition());
+        assertEquals("i", task.getPosition());
 
         verify(createTaskRequestMapper).toEntity(request);
         verify(sectionService).getProxySectionById(request.sectionId());
@@ -274,14 +448,11 @@ public class TaskServiceTest {
         var userShortResponse = buildUserShortResponse(user);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var section = task.getSection();
-        var taskProperties = mock(AppProperties.Task.class);
         var taskFullResponse = buildTaskFullResponse(task, List.of(userShortResponse));
 
         doReturn(task).when(createTaskRequestMapper).toEntity(request);
         doReturn(section).when(sectionService).getProxySectionById(request.sectionId());
         doReturn(Set.of(user)).when(userService).getBoardMembersForTask(request.sectionId(), request.assigneeIds());
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(null).when(taskRepository).findMaxPositionBySectionId(request.sectionId());
         doReturn(task).when(taskRepository).save(task);
         doReturn(List.of(userShortResponse)).when(userService).getUserShortsByIds(request.assigneeIds());
@@ -294,7 +465,7 @@ public class TaskServiceTest {
         assertFalse(task.getIsCompleted());
         assertEquals(section, task.getSection());
         assertFalse(task.getAssignees().isEmpty());
-        assertEquals(15.0, task.getPosition());
+        assertEquals("i", task.getPosition());
 
         verify(createTaskRequestMapper).toEntity(request);
         verify(sectionService).getProxySectionById(request.sectionId());
@@ -310,21 +481,18 @@ public class TaskServiceTest {
         var request = buildCreateTaskRequest(null);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var section = task.getSection();
-        var taskProperties = mock(AppProperties.Task.class);
         var taskFullResponse = buildTaskFullResponse(task, List.of());
 
         doReturn(task).when(createTaskRequestMapper).toEntity(request);
         doReturn(section).when(sectionService).getProxySectionById(request.sectionId());
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
-        doReturn(100.0).when(taskRepository).findMaxPositionBySectionId(request.sectionId());
+        doReturn("n").when(taskRepository).findMaxPositionBySectionId(request.sectionId());
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskFullResponse).when(taskFullResponseMapper).toDto(task, List.of());
 
         TaskFullResponse actual = taskService.createTask(request);
 
         assertEquals(taskFullResponse, actual);
-        assertEquals(115.0, task.getPosition());
+        assertEquals("n00001", task.getPosition());
 
         verify(createTaskRequestMapper).toEntity(request);
         verify(sectionService).getProxySectionById(request.sectionId());
@@ -334,6 +502,88 @@ public class TaskServiceTest {
         verifyNoInteractions(userService);
     }
 
+    @Test
+    void createTasks_whenItemsAreValid_shouldAppendTasksInOrderAndPersistThemInChunks() {
+        var section = buildSection(SECTION_ID, "To Do");
+        var user = buildUser(USER_ID, USER_USERNAME);
+        var label = buildLabel(LABEL_ID, "Bug");
+        var request = new BulkCreateTasksRequest(SECTION_ID, List.of(
+                buildBulkTaskItem("First", Set.of(USER_ID), Set.of(LABEL_ID)),
+                buildBulkTaskItem("Second", null, null),
+                buildBulkTaskItem("Third", null, Set.of(LABEL_ID))
+        ));
+        var labelProperties = mock(AppProperties.Label.class);
+        var taskProperties = mock(AppProperties.Task.class);
+
+        doReturn(section).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(Set.of(user)).when(userService).getBoardMembersForTask(SECTION_ID, Set.of(USER_ID));
+        doReturn(labelProperties).when(appProperties).getLabel();
+        doReturn(15).when(labelProperties).getMaxPerTask();
+        doReturn(List.of(label)).when(labelService).getBoardLabelsByIds(BOARD_ID, Set.of(LABEL_ID));
+        doReturn("n").when(taskRepository).findMaxPositionBySectionId(SECTION_ID);
+        doReturn(taskProperties).when(appProperties).getTask();
+        doReturn(500).when(taskProperties).getBulkChunkSize();
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(taskRepository).persistInChunks(anyList(), eq(500));
+
+        BulkCreateTasksResponse actual = taskService.createTasks(request);
+
+        assertEquals(3, actual.created());
+        assertEquals(List.of(100L, 101L, 102L), actual.taskIds());
+
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.captor();
+        verify(taskRepository).persistInChunks(captor.capture(), eq(500));
+        List<Task> persisted = captor.getValue();
+
+        assertEquals(List.of("First", "Second", "Third"), persisted.stream().map(Task::getTitle).toList());
+        assertEquals(List.of("n00001", "n00002", "n00003"), persisted.stream().map(Task::getPosition).toList());
+        assertEquals(Set.of(user), persisted.get(0).getAssignees());
+        assertEquals(Set.of(label), persisted.get(0).getLabels());
+        assertTrue(persisted.get(1).getLabels().isEmpty());
+        assertEquals(Set.of(label), persisted.get(2).getLabels());
+        assertTrue(persisted.stream().allMatch(task -> task.getSection() == section && !task.getIsCompleted()));
+
+        verify(taskRepository).findMaxPositionBySectionId(SECTION_ID);
+        verify(activityService).publish(section.getBoard(), TASK_CREATED, "Created 3 tasks in section To Do");
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void createTasks_whenLabelIsNotOnBoard_shouldThrowObjectNotFoundException() {
+        var section = buildSection(SECTION_ID, "To Do");
+        var request = new BulkCreateTasksRequest(SECTION_ID, List.of(buildBulkTaskItem("First", null, Set.of(LABEL_ID))));
+        var labelProperties = mock(AppProperties.Label.class);
+
+        doReturn(section).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(labelProperties).when(appProperties).getLabel();
+        doReturn(15).when(labelProperties).getMaxPerTask();
+        doReturn(List.of()).when(labelService).getBoardLabelsByIds(BOARD_ID, Set.of(LABEL_ID));
+
+        assertThrows(ObjectNotFoundException.class, () -> taskService.createTasks(request));
+
+        verifyNoInteractions(taskRepository, activityService);
+    }
+
+    @Test
+    void createTasks_whenItemExceedsLabelLimit_shouldThrowLabelLimitExceededException() {
+        var section = buildSection(SECTION_ID, "To Do");
+        var request = new BulkCreateTasksRequest(SECTION_ID, List.of(buildBulkTaskItem("First", null, Set.of(1L, 2L))));
+        var labelProperties = mock(AppProperties.Label.class);
+
+        doReturn(section).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(labelProperties).when(appProperties).getLabel();
+        doReturn(1).when(labelProperties).getMaxPerTask();
+
+        assertThrows(LabelLimitExceededException.class, () -> taskService.createTasks(request));
+
+        verifyNoInteractions(labelService, taskRepository, activityService);
+    }
+
     @Test
     void updateTask_whenTaskNotFound_shouldThrowObjectNotFoundException() {
         var updateTaskRequest = new UpdateTaskRequest(TASK_TITLE, "Description", null, null);
@@ -442,6 +692,7 @@ public class TaskServiceTest {
 
         verify(taskRepository).findByIdWithAttachments(task.getId());
         verify(taskRepository).delete(task);
+        verify(resourceHierarchyCache).invalidate(ResourceType.TASK, List.of(task.getId()));
         verify(activityService).publish(task.getSection().getBoard(), TASK_DELETED, "Deleted task %s".formatted(task.getTitle()));
         verify(resourceCleanupService).cleanupFiles(filePaths);
     }
@@ -624,17 +875,14 @@ public class TaskServiceTest {
     }
 
     @Test
-    void moveTask_whenPrevAndNextTaskIdNull_shouldSetPositionToStep() {
+    void moveTask_whenPrevAndNextTaskIdNull_shouldSetInitialPosition() {
         var moveTaskRequest = new MoveTaskRequest(10L, null, null);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var board = task.getSection().getBoard();
         var newSection = buildSection(10L, "Some Section");
-        var taskProperties = mock(AppProperties.Task.class);
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(newSection).when(sectionService).getProxySectionById(moveTaskRequest.sectionId());
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
@@ -642,7 +890,7 @@ public class TaskServiceTest {
         TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
 
         assertEquals(taskPreviewResponse, actual);
-        assertEquals(15.0, task.getPosition());
+        assertEquals("i", task.getPosition());
 
         verify(taskRepository).findById(TASK_ID);
         verify(taskRepository, never()).findByIdAndSectionId(moveTaskRequest.prevTaskId(), moveTaskRequest.sectionId());
@@ -659,14 +907,11 @@ public class TaskServiceTest {
         var moveTaskRequest = new MoveTaskRequest(SECTION_ID, null, 20L);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var nextTask = buildTask(20L, "Next task");
-        nextTask.setPosition(30.0);
-        var taskProperties = mock(AppProperties.Task.class);
+        nextTask.setPosition("n");
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
         doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
@@ -674,8 +919,8 @@ public class TaskServiceTest {
         TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
 
         assertEquals(taskPreviewResponse, actual);
-        assertEquals(15.0, 30.0 - task.getPosition(), 0.0001);
-        assertEquals(15.0, task.getPosition());
+        assertEquals("mzzzzz", task.getPosition());
+        assertTrue(task.getPosition().compareTo(nextTask.getPosition()) < 0);
 
         verify(taskRepository).findById(TASK_ID);
         verify(taskRepository, never()).findByIdAndSectionId(moveTaskRequest.prevTaskId(), moveTaskRequest.sectionId());
@@ -692,14 +937,11 @@ public class TaskServiceTest {
         var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, null);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var prevTask = buildTask(10L, "Prev task");
-        prevTask.setPosition(30.0);
-        var taskProperties = mock(AppProperties.Task.class);
+        prevTask.setPosition("n");
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
         doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
@@ -707,7 +949,8 @@ public class TaskServiceTest {
         TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
 
         assertEquals(taskPreviewResponse, actual);
-        assertEquals(45.0, task.getPosition());
+        assertEquals("n00001", task.getPosition());
+        assertTrue(task.getPosition().compareTo(prevTask.getPosition()) > 0);
 
         verify(taskRepository).findById(TASK_ID);
         verify(taskRepository).findByIdAndSectionId(moveTaskRequest.prevTaskId(), moveTaskRequest.sectionId());
@@ -721,20 +964,19 @@ public class TaskServiceTest {
 
     @Test
     void moveTask_whenPrevAndNextProvidedWithEnoughGap_shouldSetPositionBetween() {
-        var taskProperties = mock(AppProperties.Task.class);
         var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, 20L);
         var task = buildTask(TASK_ID, TASK_TITLE);
         var prevTask = buildTask(10L, "Prev task");
-        prevTask.setPosition(10.0);
+        prevTask.setPosition("a");
         var nextTask = buildTask(20L, "Next task");
-        nextTask.setPosition(30.0);
+        nextTask.setPosition("c");
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
         doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
         doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
+        doReturn(Optional.of(new TaskPosition(20L, "c"))).when(taskRepository)
+                .findNextPosition(SECTION_ID, new TaskPosition(10L, "a"), List.of(TASK_ID));
         doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
@@ -742,7 +984,7 @@ public class TaskServiceTest {
         TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
 
         assertEquals(taskPreviewResponse, actual);
-        assertEquals(20.0, task.getPosition());
+        assertEquals("b", task.getPosition());
 
         verify(taskRepository).findById(TASK_ID);
         verify(taskRepository).findByIdAndSectionId(moveTaskRequest.prevTaskId(), moveTaskRequest.sectionId());
@@ -755,57 +997,136 @@ public class TaskServiceTest {
     }
 
     @Test
-    void moveTask_whenPrevAndNextPositionsTooClose_shouldReindexSectionAndRecalculatePosition() {
+    void moveTask_whenPrevAndNextPositionsAdjacent_shouldExtendKeyWithoutTouchingOtherTasks() {
         var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, 20L);
         var task = buildTask(TASK_ID, TASK_TITLE);
+        var prevTask = buildTask(10L, "Prev task");
+        prevTask.setPosition("b");
+        var nextTask = buildTask(20L, "Next task");
+        nextTask.setPosition("b1");
+        var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
+
+        doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
+        doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
+        doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
+        doReturn(Optional.of(new TaskPosition(20L, "b1"))).when(taskRepository)
+                .findNextPosition(SECTION_ID, new TaskPosition(10L, "b"), List.of(TASK_ID));
+        doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(task).when(taskRepository).save(task);
+        doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
+
+        TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
+
+        assertEquals(taskPreviewResponse, actual);
+        assertEquals("b0i", task.getPosition());
+        assertEquals("b", prevTask.getPosition());
+        assertEquals("b1", nextTask.getPosition());
+
+        verify(taskRepository).save(task);
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(sectionRebalanceService).requestRebalanceIfNeeded(SECTION_ID, "b0i");
+        verifyNoInteractions(activityService);
+    }
 
+    @Test
+    void moveTask_whenPrevAndNextShareSamePosition_shouldSpreadTiedTasksAndPlaceBetween() {
+        var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, 20L);
+        var task = buildTask(TASK_ID, TASK_TITLE);
         var prevTask = buildTask(10L, "Prev task");
-        prevTask.setPosition(15.0000001);
+        prevTask.setPosition("b");
         var nextTask = buildTask(20L, "Next task");
-        nextTask.setPosition(15.0000002);
+        nextTask.setPosition("b");
+        var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
-        var reindexedPrev = buildTask(10L, "Prev task");
-        reindexedPrev.setPosition(15.0);
-        var reindexedNext = buildTask(20L, "Next task");
-        reindexedNext.setPosition(30.0);
+        doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
+        doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
+        doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
+        doReturn(Optional.of(new TaskPosition(20L, "b"))).when(taskRepository)
+                .findNextPosition(SECTION_ID, new TaskPosition(10L, "b"), List.of(TASK_ID));
+        doReturn(Map.of(10L, "bc", 20L, "bn")).when(sectionRebalanceService).spreadTiedPositions(SECTION_ID, "b");
+        doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(task).when(taskRepository).save(task);
+        doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
 
-        var otherTask = buildTask(30L, "Other task");
-        var taskProperties = mock(AppProperties.Task.class);
+        TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
+
+        assertEquals(taskPreviewResponse, actual);
+        assertEquals("bi", task.getPosition());
+
+        verify(taskRepository).lockSection(SECTION_ID);
+        verify(sectionRebalanceService).spreadTiedPositions(SECTION_ID, "b");
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    void moveTask_whenTasksLieBetweenPrevAndNext_shouldPlaceBeforeActualSuccessorOfPrev() {
+        var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, 20L);
+        var task = buildTask(TASK_ID, TASK_TITLE);
+        var prevTask = buildTask(10L, "Prev task");
+        prevTask.setPosition("a");
+        var nextTask = buildTask(20L, "Next task");
+        nextTask.setPosition("e");
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
         doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
         doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
+        doReturn(Optional.of(new TaskPosition(30L, "c"))).when(taskRepository)
+                .findNextPosition(SECTION_ID, new TaskPosition(10L, "a"), List.of(TASK_ID));
+        doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(task).when(taskRepository).save(task);
+        doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
 
-        doReturn(List.of(prevTask, nextTask, otherTask)).when(taskRepository)
-                .findAllBySectionIdOrderByPositionAsc(SECTION_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
-        doReturn(List.of()).when(taskRepository).saveAll(anyList());
+        taskService.moveTask(TASK_ID, moveTaskRequest);
+
+        assertEquals("b", task.getPosition());
 
-        doReturn(Optional.of(reindexedPrev)).when(taskRepository).findById(10L);
-        doReturn(Optional.of(reindexedNext)).when(taskRepository).findById(20L);
+        verify(taskRepository).lockSection(SECTION_ID);
+        verify(taskRepository, never()).findPreviousPosition(anyLong(), any(), any());
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    void moveTask_whenOnlyNextProvidedAndTasksLieBeforeIt_shouldPlaceAfterActualPredecessorOfNext() {
+        var moveTaskRequest = new MoveTaskRequest(SECTION_ID, null, 20L);
+        var task = buildTask(TASK_ID, TASK_TITLE);
+        var nextTask = buildTask(20L, "Next task");
+        nextTask.setPosition("e");
+        var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
+        doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
+        doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
+        doReturn(Optional.of(new TaskPosition(30L, "c"))).when(taskRepository)
+                .findPreviousPosition(SECTION_ID, new TaskPosition(20L, "e"), List.of(TASK_ID));
         doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
 
-        TaskPreviewResponse actual = taskService.moveTask(TASK_ID, moveTaskRequest);
+        taskService.moveTask(TASK_ID, moveTaskRequest);
 
-        assertEquals(taskPreviewResponse, actual);
-        assertEquals(22.5, task.getPosition());
+        assertEquals("d", task.getPosition());
 
-        verify(taskRepository).findById(TASK_ID);
-        verify(taskRepository).findByIdAndSectionId(moveTaskRequest.prevTaskId(), moveTaskRequest.sectionId());
-        verify(taskRepository).findByIdAndSectionId(moveTaskRequest.nextTaskId(), moveTaskRequest.sectionId());
-        verify(taskRepository).findById(moveTaskRequest.prevTaskId());
-        verify(taskRepository).findById(moveTaskRequest.nextTaskId());
-        verify(sectionService).getProxySectionById(moveTaskRequest.sectionId());
-        verify(taskRepository).findAllBySectionIdOrderByPositionAsc(moveTaskRequest.sectionId());
-        verify(taskRepository).saveAll(anyList());
+        verify(taskRepository, never()).findNextPosition(anyLong(), any(), any());
         verify(taskRepository).save(task);
-        verify(taskPreviewResponseMapper).toDto(task, List.of());
-        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void moveTask_whenPrevPlacedAfterNext_shouldThrowTaskMoveException() {
+        var moveTaskRequest = new MoveTaskRequest(SECTION_ID, 10L, 20L);
+        var task = buildTask(TASK_ID, TASK_TITLE);
+        var prevTask = buildTask(10L, "Prev task");
+        prevTask.setPosition("c");
+        var nextTask = buildTask(20L, "Next task");
+        nextTask.setPosition("a");
+
+        doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
+        doReturn(Optional.of(prevTask)).when(taskRepository).findByIdAndSectionId(10L, SECTION_ID);
+        doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, SECTION_ID);
+
+        assertThrows(TaskMoveException.class, () -> taskService.moveTask(TASK_ID, moveTaskRequest));
+
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(sectionService, activityService, taskPreviewResponseMapper);
     }
 
     @Test
@@ -816,18 +1137,16 @@ public class TaskServiceTest {
         var oldSection = task.getSection();
         var oldBoard = oldSection.getBoard();
         var newSection = buildSection(newSectionId, "New Section");
-        var taskProperties = mock(AppProperties.Task.class);
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(newSection).when(sectionService).getProxySectionById(newSectionId);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
 
         taskService.moveTask(TASK_ID, moveTaskRequest);
 
+        verify(resourceHierarchyCache).invalidate(ResourceType.TASK, List.of(TASK_ID));
         verify(activityService).publish(oldBoard, TASK_MOVED,
                 "Moved task from section %s to %s".formatted(oldSection.getName(), "New Section"));
     }
@@ -836,12 +1155,9 @@ public class TaskServiceTest {
     void moveTask_whenSectionUnchanged_shouldNotPublishActivity() {
         var moveTaskRequest = new MoveTaskRequest(SECTION_ID, null, null);
         var task = buildTask(TASK_ID, TASK_TITLE);
-        var taskProperties = mock(AppProperties.Task.class);
         var taskPreviewResponse = buildTaskPreviewResponse(task, List.of());
 
         doReturn(Optional.of(task)).when(taskRepository).findById(TASK_ID);
-        doReturn(taskProperties).when(appProperties).getTask();
-        doReturn(15.0).when(taskProperties).getPositionStep();
         doReturn(task.getSection()).when(sectionService).getProxySectionById(SECTION_ID);
         doReturn(task).when(taskRepository).save(task);
         doReturn(taskPreviewResponse).when(taskPreviewResponseMapper).toDto(task, List.of());
@@ -851,6 +1167,196 @@ public class TaskServiceTest {
         verifyNoInteractions(activityService);
     }
 
+    @Test
+    void moveTasks_whenTasksMovedToAnotherSection_shouldWriteOnceAndPublishOneActivity() {
+        var targetSectionId = 10L;
+        var moveTasksRequest = new MoveTasksRequest(List.of(1L, 2L), targetSectionId, null, 20L);
+        var targetSection = buildSection(targetSectionId, "Done");
+        var nextTask = buildTask(20L, "Next task");
+        nextTask.setPosition("n");
+        var task1 = buildTask(1L, "Fix bug");
+        var task2 = buildTask(2L, "Write docs");
+        var taskPreviewResponse1 = buildTaskPreviewResponse(task1, List.of());
+        var taskPreviewResponse2 = buildTaskPreviewResponse(task2, List.of());
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID), buildMoveProjection(2L, BOARD_ID)))
+                .when(taskRepository).findMoveProjectionsByIdIn(List.of(1L, 2L));
+        doReturn(targetSection).when(sectionService).getProxySectionById(targetSectionId);
+        doReturn(Optional.of(nextTask)).when(taskRepository).findByIdAndSectionId(20L, targetSectionId);
+        doReturn(List.of(task1, task2)).when(taskRepository).findAllWithLabelsByIdIn(List.of(1L, 2L));
+        doReturn(Map.of()).when(userService).getAssigneeByTaskIds(Set.of(1L, 2L));
+        doReturn(taskPreviewResponse1).when(taskPreviewResponseMapper).toDto(task1, List.of());
+        doReturn(taskPreviewResponse2).when(taskPreviewResponseMapper).toDto(task2, List.of());
+
+        List<TaskPreviewResponse> actual = taskService.moveTasks(moveTasksRequest);
+
+        assertEquals(List.of(taskPreviewResponse1, taskPreviewResponse2), actual);
+
+        verify(taskRepository).moveToSection(eq(targetSectionId), eq(Map.of(1L, "7", 2L, "f")), any(LocalDateTime.class));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(sectionRebalanceService).requestRebalanceIfNeeded(targetSectionId, "f");
+        verify(activityService).publish(targetSection.getBoard(), TASK_MOVED, "Moved 2 tasks to section Done");
+    }
+
+    @Test
+    void moveTasks_whenTaskIdsRepeat_shouldThrowTaskMoveException() {
+        var moveTasksRequest = new MoveTasksRequest(List.of(1L, 1L), SECTION_ID, null, null);
+
+        assertThrows(TaskMoveException.class, () -> taskService.moveTasks(moveTasksRequest));
+
+        verifyNoInteractions(taskRepository, sectionService, activityService);
+    }
+
+    @Test
+    void moveTasks_whenNeighbourIsOneOfMovedTasks_shouldThrowTaskMoveException() {
+        var moveTasksRequest = new MoveTasksRequest(List.of(1L, 2L), SECTION_ID, 2L, null);
+
+        assertThrows(TaskMoveException.class, () -> taskService.moveTasks(moveTasksRequest));
+
+        verifyNoInteractions(taskRepository, sectionService, activityService);
+    }
+
+    @Test
+    void moveTasks_whenSomeTasksNotFound_shouldThrowObjectNotFoundException() {
+        var moveTasksRequest = new MoveTasksRequest(List.of(1L, 2L), SECTION_ID, null, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID)))
+                .when(taskRepository).findMoveProjectionsByIdIn(List.of(1L, 2L));
+
+        assertThrows(ObjectNotFoundException.class, () -> taskService.moveTasks(moveTasksRequest));
+
+        verify(taskRepository, never()).moveToSection(anyLong(), anyMap(), any());
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void moveTasks_whenTaskBelongsToAnotherBoard_shouldThrowCrossBoardOperationException() {
+        var moveTasksRequest = new MoveTasksRequest(List.of(1L, 2L), SECTION_ID, null, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID), buildMoveProjection(2L, 99L)))
+                .when(taskRepository).findMoveProjectionsByIdIn(List.of(1L, 2L));
+        doReturn(getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+
+        assertThrows(CrossBoardOperationException.class, () -> taskService.moveTasks(moveTasksRequest));
+
+        verify(taskRepository, never()).moveToSection(anyLong(), anyMap(), any());
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenCompletingTasks_shouldUpdateThemInOneStatementAndPublishOneActivity() {
+        var section = getSection();
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.COMPLETE, null, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID), buildMoveProjection(2L, BOARD_ID)))
+                .when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(section).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(2).when(taskRepository).updateCompletedByIdIn(eq(request.taskIds()), eq(true), any(LocalDateTime.class));
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertEquals(new BulkTaskOperationResponse(BulkTaskOperation.COMPLETE, 2), actual);
+
+        verify(activityService).publish(section.getBoard(), TASK_COMPLETED, "Completed 2 tasks");
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void applyBulkOperation_whenNothingChanged_shouldNotPublishActivity() {
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.REOPEN, null, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID))).when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(0).when(taskRepository).updateCompletedByIdIn(eq(request.taskIds()), eq(false), any(LocalDateTime.class));
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertEquals(0, actual.affected());
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenTasksBelongToDifferentBoards_shouldThrowCrossBoardOperationException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.DELETE, null, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID), buildMoveProjection(2L, 99L)))
+                .when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+
+        assertThrows(CrossBoardOperationException.class, () -> taskService.applyBulkOperation(request));
+
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+        verifyNoInteractions(taskAttachmentRepository, resourceCleanupService, activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenAddingLabelFromAnotherBoard_shouldThrowCrossBoardOperationException() {
+        var label = buildLabel(LABEL_ID, "Bug");
+        var otherBoard = new Board();
+        otherBoard.setId(99L);
+        label.setBoard(otherBoard);
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ADD_LABEL, LABEL_ID, null);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID))).when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(label).when(labelService).getLabelById(LABEL_ID);
+
+        assertThrows(CrossBoardOperationException.class, () -> taskService.applyBulkOperation(request));
+
+        verify(taskRepository, never()).addLabelToTasks(any(), any());
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenAssigningPastAssigneeLimit_shouldThrowAssigneeLimitExceededException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ASSIGN, null, Set.of(USER_ID));
+        var taskProperties = mock(AppProperties.Task.class);
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID))).when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(Set.of(buildUser(USER_ID, "SomeUsername"))).when(userService).getBoardMembersForTask(SECTION_ID, Set.of(USER_ID));
+        doReturn(taskProperties).when(appProperties).getTask();
+        doReturn(20).when(taskProperties).getMaxAssignees();
+        doReturn(1L).when(taskRepository).countTasksOverAssigneeLimit(request.taskIds(), Set.of(USER_ID), 20);
+
+        assertThrows(AssigneeLimitExceededException.class, () -> taskService.applyBulkOperation(request));
+
+        verify(taskRepository, never()).addAssigneesToTasks(any(), any());
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenAssigningWithoutUserIds_shouldThrowBulkOperationException() {
+        var request = new BulkTaskOperationRequest(Set.of(1L), BulkTaskOperation.ASSIGN, null, Set.of());
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID))).when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(getSection()).when(sectionService).getProxySectionById(SECTION_ID);
+
+        assertThrows(BulkOperationException.class, () -> taskService.applyBulkOperation(request));
+
+        verifyNoInteractions(userService, activityService);
+    }
+
+    @Test
+    void applyBulkOperation_whenDeletingTasks_shouldCleanupAllAttachmentsOnce() {
+        var section = getSection();
+        var request = new BulkTaskOperationRequest(Set.of(1L, 2L), BulkTaskOperation.DELETE, null, null);
+        var filePaths = List.of("tasks/1/a.png", "tasks/2/b.pdf");
+
+        doReturn(List.of(buildMoveProjection(1L, BOARD_ID), buildMoveProjection(2L, BOARD_ID)))
+                .when(taskRepository).findMoveProjectionsByIdIn(request.taskIds());
+        doReturn(section).when(sectionService).getProxySectionById(SECTION_ID);
+        doReturn(filePaths).when(taskAttachmentRepository).findAllFilePathByTaskIdIn(request.taskIds());
+        doReturn(2).when(taskRepository).deleteAllByIdIn(request.taskIds());
+
+        BulkTaskOperationResponse actual = taskService.applyBulkOperation(request);
+
+        assertEquals(2, actual.affected());
+
+        verify(resourceHierarchyCache).invalidate(ResourceType.TASK, request.taskIds());
+        verify(resourceCleanupService).cleanupFiles(filePaths);
+        verify(activityService).publish(section.getBoard(), TASK_DELETED, "Deleted 2 tasks");
+    }
+
     @Test
     void addLabelToTask_whenTaskNotFound_shouldThrowObjectNotFoundException() {
         doReturn(Optional.empty()).when(taskRepository).findByIdWithLabels(TASK_ID);
@@ -1092,6 +1598,22 @@ public class TaskServiceTest {
         return new CreateTaskRequest(TASK_TITLE, "Description", null, assigneeIds, SECTION_ID);
     }
 
+    private BulkTaskItem buildBulkTaskItem(String title, Set<Long> assigneeIds, Set<Long> labelIds) {
+        return new BulkTaskItem(title, null, null, assigneeIds, labelIds);
+    }
+
+    private TaskMoveProjection buildMoveProjection(Long taskId, Long boardId) {
+        return new TaskMoveProjection(taskId, "Task " + taskId, SECTION_ID, boardId);
+    }
+
+    private TaskSearchHit buildSearchHit(Long id, Double rank, String titleHighlight) {
+        return new TaskSearchHit(id, rank, titleHighlight, "");
+    }
+
+    private TaskFilter buildTaskFilterWithQuery(String query) {
+        return new TaskFilter(null, null, null, null, null, null, null, null, null, query);
+    }
+
     private TaskFilter buildEmptyTaskFilter() {
         return new TaskFilter(
                 null,
@@ -1102,6 +1624,7 @@ public class TaskServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null);
     }
 }
@@ -1,5 +1,8 @@
 package com.walking.backend.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walking.backend.cache.TwoTierCache;
+import com.walking.backend.cache.TwoTierCacheManager;
 import com.walking.backend.domain.dto.auth.SignUpRequest;
 import com.walking.backend.domain.dto.user.*;
 import com.walking.backend.domain.exception.DuplicateException;
@@ -7,7 +10,8 @@ import com.walking.backend.domain.exception.InvalidFileException;
 import com.walking.backend.domain.exception.ObjectNotFoundException;
 import com.walking.backend.domain.model.User;
 import com.walking.backend.domain.model.UserProfile;
-import com.walking.backend.domain.projection.TaskAssigneeProjection;
+import com.walking.backend.domain.projection.TaskAssigneeId;
+import com.walking.backend.props.CacheNames;
 import com.walking.backend.repository.UserProfileRepository;
 import com.walking.backend.repository.UserRepository;
 import com.walking.backend.service.impl.UserServiceImpl;
@@ -21,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -68,6 +73,9 @@ public class UserServiceTest {
     @Mock
     private UserProfileResponseMapper userProfileResponseMapper;
 
+    @Mock
+    private TwoTierCacheManager cacheManager;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -80,7 +88,7 @@ public class UserServiceTest {
         var pageable = PageRequest.of(0, 10);
         var userSearchResponses = new PageImpl<>(List.of(user1, user2), pageable, 1L);
 
-        doReturn(userSearchResponses).when(userRepository).searchUsersByQueryAndExcludeBoardMembers("Dan", ID, pageable);
+        doReturn(userSearchResponses).when(userRepository).searchUsersByQueryAndExcludeBoardMembers("dan%", ID, pageable);
 
         Page<UserSearchResponse> actual = userService.searchUsersToInvite(ID, "Dan", pageable);
 
@@ -89,7 +97,7 @@ public class UserServiceTest {
         assertEquals(user1, actual.getContent().get(0));
         assertEquals(user2, actual.getContent().get(1));
 
-        verify(userRepository).searchUsersByQueryAndExcludeBoardMembers("Dan", ID, pageable);
+        verify(userRepository).searchUsersByQueryAndExcludeBoardMembers("dan%", ID, pageable);
     }
 
     @Test
@@ -145,42 +153,60 @@ public class UserServiceTest {
     @Test
     void getAssigneeByTaskIds_whenMultipleAssignees_shouldReturnGroupByTaskId() {
         var taskIds = Set.of(1L, 2L);
-        var projection1 = new TaskAssigneeProjection(
-                1L, 1L, "user1", "user1DisplayName", "avatar1");
-        var projection2 = new TaskAssigneeProjection(
-                2L, 2L, "user2", "user2DisplayName", "avatar2");
-        var projection3 = new TaskAssigneeProjection(
-                1L, 3L, "user3", "user3DisplayName", "avatar3");
+        var user1 = new UserShortResponse(1L, "user1", "user1DisplayName", "avatar1");
+        var user2 = new UserShortResponse(2L, "user2", "user2DisplayName", "avatar2");
+        var user3 = new UserShortResponse(3L, "user3", "user3DisplayName", "avatar3");
+        var cache = userShortCache();
+        cache.put(1L, user1);
 
-        doReturn(List.of(projection1, projection2, projection3)).when(userProfileRepository)
-                .findAssigneeProjectionByTaskIds(taskIds);
+        doReturn(cache).when(cacheManager).getCache(CacheNames.USER_SHORT_PROFILE);
+        doReturn(List.of(new TaskAssigneeId(1L, 1L), new TaskAssigneeId(2L, 2L), new TaskAssigneeId(1L, 3L)))
+                .when(userProfileRepository).findAssigneeIdsByTaskIds(taskIds);
+        doReturn(List.of(user2, user3)).when(userProfileRepository).findUserShortsByIds(Set.of(2L, 3L));
 
         Map<Long, List<UserShortResponse>> actual = userService.getAssigneeByTaskIds(taskIds);
 
         assertEquals(2, actual.size());
         assertEquals(2, actual.get(1L).size());
         assertEquals(1, actual.get(2L).size());
-        assertTrue(actual.get(1L).stream()
-                .anyMatch(u -> u.id().equals(1L) && u.username().equals("user1")));
-        assertTrue(actual.get(2L).stream()
-                .anyMatch(u -> u.id().equals(2L) && u.username().equals("user2")));
-        assertTrue(actual.get(1L).stream()
-                .anyMatch(u -> u.id().equals(3L) && u.username().equals("user3")));
-
-        verify(userProfileRepository).findAssigneeProjectionByTaskIds(taskIds);
+        assertTrue(actual.get(1L).containsAll(List.of(user1, user3)));
+        assertEquals(List.of(user2), actual.get(2L));
+        assertEquals(user3, cache.get(3L, UserShortResponse.class));
+
+        verify(userProfileRepository).findAssigneeIdsByTaskIds(taskIds);
+        verify(userProfileRepository).findUserShortsByIds(Set.of(2L, 3L));
     }
 
     @Test
     void getAssigneeByTaskIds_whenNoAssignees_shouldReturnEmptyMap() {
         var taskIds = Set.of(1L, 2L);
 
-        doReturn(List.of()).when(userProfileRepository).findAssigneeProjectionByTaskIds(taskIds);
+        doReturn(List.of()).when(userProfileRepository).findAssigneeIdsByTaskIds(taskIds);
 
         Map<Long, List<UserShortResponse>> actual = userService.getAssigneeByTaskIds(taskIds);
 
         assertTrue(actual.isEmpty());
 
-        verify(userProfileRepository).findAssigneeProjectionByTaskIds(taskIds);
+        verify(userProfileRepository).findAssigneeIdsByTaskIds(taskIds);
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void getUserShortsByIds_whenAllUsersAreCached_shouldNotQueryDatabase() {
+        var user1 = new UserShortResponse(1L, "user1", "user1DisplayName", "avatar1");
+        var user2 = new UserShortResponse(2L, "user2", "user2DisplayName", "avatar2");
+        var cache = userShortCache();
+        cache.put(1L, user1);
+        cache.put(2L, user2);
+
+        doReturn(cache).when(cacheManager).getCache(CacheNames.USER_SHORT_PROFILE);
+
+        List<UserShortResponse> actual = userService.getUserShortsByIds(Set.of(1L, 2L));
+
+        assertEquals(2, actual.size());
+        assertTrue(actual.containsAll(List.of(user1, user2)));
+
+        verifyNoInteractions(userProfileRepository);
     }
 
     @Test
@@ -474,4 +500,12 @@ public class UserServiceTest {
         return new UserProfile(
                 ID, DISPLAY_NAME, AVATAR_URL, BIO, getSavedUser(), LocalDateTime.now(), LocalDateTime.now());
     }
+
+    private TwoTierCache userShortCache() {
+        return new TwoTierCache(CacheNames.USER_SHORT_PROFILE,
+                Caffeine.newBuilder().build(),
+                new ConcurrentMapCache(CacheNames.USER_SHORT_PROFILE, false),
+                (name, key) -> {
+                });
+    }
 }
@@ -0,0 +1,127 @@
+package com.walking.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRankTest {
+    private static final int STRESS_INSERTS = 100_000;
+
+    @Test
+    void between_whenGapIsWide_shouldReturnMidpoint() {
+        assertEquals("b", TaskRank.between("a", "c"));
+    }
+
+    @Test
+    void between_whenKeysAreAdjacent_shouldExtendKey() {
+        String actual = TaskRank.between("a", "a1");
+
+        assertEquals("a0i", actual);
+        assertTrue("a".compareTo(actual) < 0);
+        assertTrue(actual.compareTo("a1") < 0);
+    }
+
+    @Test
+    void between_whenPrevIsNotLowerThanNext_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between("b", "b"));
+    }
+
+    @Test
+    void between_whenBothBoundsMissing_shouldReturnInitialRank() {
+        assertEquals(TaskRank.initial(), TaskRank.between(null, null));
+    }
+
+    @Test
+    void before_whenRankIsSmallest_shouldBisectTowardsZero() {
+        String actual = TaskRank.before("000001");
+
+        assertEquals("000000i", actual);
+        assertTrue(TaskRank.before(actual).compareTo(actual) < 0);
+    }
+
+    @Test
+    void after_whenRankIsLargest_shouldExtendKey() {
+        assertEquals("zzzzzzi", TaskRank.after("zzzzzz"));
+    }
+
+    @Test
+    void spread_whenBoundsAreOpen_shouldReturnShortEvenlySpacedRanks() {
+        assertEquals(List.of("9", "i", "r"), TaskRank.spread(null, null, 3));
+    }
+
+    @Test
+    void spread_whenBoundsAreCrowded_shouldStayStrictlyBetweenThem() {
+        String lower = "i0000000000000000000001";
+        String upper = "i0000000000000000000002";
+
+        List<String> actual = TaskRank.spread(lower, upper, 500);
+
+        assertEquals(500, actual.size());
+        assertTrue(lower.compareTo(actual.getFirst()) < 0);
+        assertTrue(actual.getLast().compareTo(upper) < 0);
+
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(actual.get(i - 1).compareTo(actual.get(i)) < 0);
+            assertFalse(actual.get(i).endsWith("0"));
+        }
+    }
+
+    @Test
+    void between_whenInsertingAtSameSpotRepeatedly_shouldKeepStrictOrder() {
+        String prev = TaskRank.initial();
+        String next = TaskRank.after(prev);
+
+        for (int i = 0; i < STRESS_INSERTS; i++) {
+            String inserted = TaskRank.between(prev, next);
+
+            assertTrue(prev.compareTo(inserted) < 0);
+            assertTrue(inserted.compareTo(next) < 0);
+            assertFalse(inserted.endsWith("0"));
+
+            next = inserted;
+        }
+    }
+
+    @Test
+    void beforeAndAfter_whenPrependingAndAppendingRepeatedly_shouldKeepKeysShort() {
+        String first = TaskRank.initial();
+        String last = TaskRank.initial();
+
+        for (int i = 0; i < STRESS_INSERTS; i++) {
+            String prepended = TaskRank.before(first);
+            String appended = TaskRank.after(last);
+
+            assertTrue(prepended.compareTo(first) < 0);
+            assertTrue(appended.compareTo(last) > 0);
+
+            first = prepended;
+            last = appended;
+        }
+
+        assertTrue(first.length() <= 6);
+        assertTrue(last.length() <= 6);
+    }
+
+    @Test
+    void between_whenInsertingAtRandomSpots_shouldKeepListSorted() {
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>(List.of(TaskRank.initial()));
+
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(ranks.size() + 1);
+            String prev = index == 0 ? null : ranks.get(index - 1);
+            String next = index == ranks.size() ? null : ranks.get(index);
+
+            ranks.add(index, TaskRank.between(prev, next));
+        }
+
+        for (int i = 1; i < ranks.size(); i++) {
+            assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0);
+        }
+    }
+}
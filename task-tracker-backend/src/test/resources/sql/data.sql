@@ -75,9 +75,9 @@ SELECT setval('section_id_seq', COALESCE((SELECT MAX(id) FROM section), 0));
 -- Task 2: один assignee (john_snow)
 -- Task 3: без assignee (для проверки пустого списка)
 INSERT INTO task (id, title, description, is_completed, position, section_id, created, updated)
-VALUES (1, 'Test Task With Two Assignees', 'Description 1', FALSE, 1.0, 1, NOW(), NOW()),
-       (2, 'Test Task With One Assignee', 'Description 2', FALSE, 2.0, 1, NOW(), NOW()),
-       (3, 'Test Task Without Assignees', 'Description 3', FALSE, 3.0, 1, NOW(), NOW());
+VALUES (1, 'Test Task With Two Assignees', 'Description 1', FALSE, '1', 1, NOW(), NOW()),
+       (2, 'Test Task With One Assignee', 'Description 2', FALSE, '2', 1, NOW(), NOW()),
+       (3, 'Test Task Without Assignees', 'Description 3', FALSE, '3', 1, NOW(), NOW());
 
 SELECT setval('task_id_seq', COALESCE((SELECT MAX(id) FROM task), 0));
 